@@ -0,0 +1,3 @@
+-- With the idempotency write-behind the key is inserted in the use case transaction, as a claim without response,
+-- and the response is written into it by the next flush
+ALTER TABLE idempotencies ALTER COLUMN response DROP NOT NULL;
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS cache_invalidations
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id VARCHAR(36) NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_key VARCHAR(12) NOT NULL,
+    property_id VARCHAR(12),
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS cache_invalidations_created_at_idx ON cache_invalidations (created_at);
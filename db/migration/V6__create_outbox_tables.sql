@@ -0,0 +1,17 @@
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id VARCHAR(12) NOT NULL,
+    property_id VARCHAR(12),
+    event_type VARCHAR(20) NOT NULL,
+    payload CLOB,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_offsets
+(
+    consumer VARCHAR(50) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
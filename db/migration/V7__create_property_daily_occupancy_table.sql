@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS property_daily_occupancy
+(
+    property_id VARCHAR(12) NOT NULL,
+    occupied_on DATE NOT NULL,
+    source_type VARCHAR(20) NOT NULL,
+    source_id VARCHAR(12) NOT NULL,
+    CONSTRAINT property_daily_occupancy_pk PRIMARY KEY (property_id, occupied_on, source_id)
+);
+
+CREATE INDEX IF NOT EXISTS property_daily_occupancy_day_idx ON property_daily_occupancy (occupied_on, property_id);
+CREATE INDEX IF NOT EXISTS property_daily_occupancy_source_idx ON property_daily_occupancy (source_id);
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS bookings_archive
+(
+    id BIGINT PRIMARY KEY,
+    external_id VARCHAR(12) NOT NULL UNIQUE,
+    property_id BIGINT NOT NULL,
+    start_date TIMESTAMP NOT NULL,
+    end_date TIMESTAMP NOT NULL,
+    guest_name VARCHAR(250) NOT NULL,
+    number_guest INT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    CONSTRAINT bookings_archive_property_id_fk FOREIGN KEY (property_id) REFERENCES properties(id)
+);
+
+CREATE INDEX IF NOT EXISTS bookings_archive_property_dates_idx ON bookings_archive (property_id, start_date);
+CREATE INDEX IF NOT EXISTS bookings_cancelled_updated_at_idx ON bookings (status, updated_at);
+CREATE INDEX IF NOT EXISTS bookings_end_date_idx ON bookings (end_date);
@@ -0,0 +1,14 @@
+-- Stay and block ranges are calendar dates (LocalDate in the entities): DATE columns compare without a timestamp
+-- conversion and keep the range index entries narrow
+ALTER TABLE bookings ALTER COLUMN start_date SET DATA TYPE DATE;
+ALTER TABLE bookings ALTER COLUMN end_date SET DATA TYPE DATE;
+ALTER TABLE blocks ALTER COLUMN start_date SET DATA TYPE DATE;
+ALTER TABLE blocks ALTER COLUMN end_date SET DATA TYPE DATE;
+ALTER TABLE bookings_archive ALTER COLUMN start_date SET DATA TYPE DATE;
+ALTER TABLE bookings_archive ALTER COLUMN end_date SET DATA TYPE DATE;
+
+-- The overlap checks filter on property_id and a date range. A unique index on property_id alone allowed a single
+-- booking (or block) per property; it is replaced by a range index (blocks already have one, their unique constraint)
+DROP INDEX IF EXISTS bookings_property_id_idx;
+DROP INDEX IF EXISTS blocks_property_id_idx;
+CREATE INDEX IF NOT EXISTS bookings_property_dates_idx ON bookings (property_id, start_date, end_date);
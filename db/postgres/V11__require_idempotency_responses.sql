@@ -0,0 +1,4 @@
+-- The idempotency write-behind is gone, every key is inserted with its response again. Claims left without one by
+-- that mode would answer their key with nothing, they are removed so a retry runs the use case
+DELETE FROM idempotencies WHERE response IS NULL;
+ALTER TABLE idempotencies ALTER COLUMN response SET NOT NULL;
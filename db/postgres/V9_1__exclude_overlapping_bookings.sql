@@ -0,0 +1,11 @@
+-- Two confirmed bookings of a property can't hold the same day, whatever the isolation level or the number of nodes.
+-- The stay is derived from the dates, inclusive on both ends as in the overlap checks. btree_gist provides the GiST
+-- equality operator on property_id.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings
+    ADD COLUMN stay DATERANGE GENERATED ALWAYS AS (daterange(start_date, end_date, '[]')) STORED;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT bookings_confirmed_stay_excl
+    EXCLUDE USING gist (property_id WITH =, stay WITH &&) WHERE (status = 'CONFIRMED');
@@ -0,0 +1,117 @@
+-- PostgreSQL schema, the state db/migration reaches at V9 on H2. Later changes get the same version in both locations
+-- external_id compares byte by byte (COLLATE "C"): under a linguistic collation the time-ordered NanoIds wouldn't sort
+-- in creation order, and the external_id indexes wouldn't be appended to
+CREATE TABLE IF NOT EXISTS properties
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_id VARCHAR(12) COLLATE "C" NOT NULL UNIQUE,
+    description VARCHAR(250) NOT NULL,
+    alias VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bookings
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_id VARCHAR(12) COLLATE "C" NOT NULL UNIQUE,
+    property_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    guest_name VARCHAR(250) NOT NULL,
+    number_guest INT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 1,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT bookings_chk_dates CHECK (end_date > start_date),
+    CONSTRAINT bookings_property_id_fk FOREIGN KEY (property_id) REFERENCES properties(id)
+);
+
+CREATE INDEX IF NOT EXISTS bookings_property_dates_idx ON bookings (property_id, start_date, end_date);
+CREATE INDEX IF NOT EXISTS bookings_cancelled_updated_at_idx ON bookings (status, updated_at);
+CREATE INDEX IF NOT EXISTS bookings_end_date_idx ON bookings (end_date);
+
+CREATE TABLE IF NOT EXISTS blocks
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    external_id VARCHAR(12) COLLATE "C" NOT NULL UNIQUE,
+    reason VARCHAR(50) NOT NULL,
+    property_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT blocks_property_id_fk FOREIGN KEY (property_id) REFERENCES properties(id),
+    CONSTRAINT blocks_chk_dates CHECK (end_date >= start_date),
+    CONSTRAINT blocks_property_start_end_uq UNIQUE(property_id, start_date, end_date)
+);
+
+CREATE TABLE IF NOT EXISTS idempotencies
+(
+    id UUID PRIMARY KEY,
+    response TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS cache_invalidations
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    node_id VARCHAR(36) NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_key VARCHAR(12) NOT NULL,
+    property_id VARCHAR(12),
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS cache_invalidations_created_at_idx ON cache_invalidations (created_at);
+
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id VARCHAR(12) NOT NULL,
+    property_id VARCHAR(12),
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_offsets
+(
+    consumer VARCHAR(50) PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS property_daily_occupancy
+(
+    property_id VARCHAR(12) NOT NULL,
+    occupied_on DATE NOT NULL,
+    source_type VARCHAR(20) NOT NULL,
+    source_id VARCHAR(12) NOT NULL,
+    CONSTRAINT property_daily_occupancy_pk PRIMARY KEY (property_id, occupied_on, source_id)
+);
+
+CREATE INDEX IF NOT EXISTS property_daily_occupancy_day_idx ON property_daily_occupancy (occupied_on, property_id);
+CREATE INDEX IF NOT EXISTS property_daily_occupancy_source_idx ON property_daily_occupancy (source_id);
+
+CREATE TABLE IF NOT EXISTS bookings_archive
+(
+    id BIGINT PRIMARY KEY,
+    external_id VARCHAR(12) COLLATE "C" NOT NULL UNIQUE,
+    property_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    guest_name VARCHAR(250) NOT NULL,
+    number_guest INT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT bookings_archive_property_id_fk FOREIGN KEY (property_id) REFERENCES properties(id)
+);
+
+CREATE INDEX IF NOT EXISTS bookings_archive_property_dates_idx ON bookings_archive (property_id, start_date);
@@ -0,0 +1,135 @@
+package com.hostfully.app.infra.repository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// The booking overlap check (property_id, confirmed, start_date <= end, end_date >= start) against a table shaped like
+// bookings, with the stay columns typed TIMESTAMP (V2) or DATE (V9) and the (property_id, start_date, end_date) range
+// index. Parameters are bound as LocalDate, as Hibernate does. File based H2 so the index has to page; the size of the
+// range index (disk used before and after creating it) and of the whole table is printed at the end of each trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DateRangeScanBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2022, 1, 1);
+    // Three years of stays per property
+    private static final int DAYS = 3 * 365;
+
+    @Param({"TIMESTAMP", "DATE"})
+    private String columnType;
+
+    @Param({"10000"})
+    private int properties;
+
+    // Stays per property, one every DAYS / stays days
+    @Param({"200"})
+    private int stays;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement overlap;
+    private long indexBytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("date-range-scan");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench") + ";CACHE_SIZE=65536");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bookings (id BIGINT PRIMARY KEY, property_id BIGINT NOT NULL, "
+                    + "start_date " + columnType + " NOT NULL, end_date " + columnType + " NOT NULL, "
+                    + "status VARCHAR(50) NOT NULL)");
+        }
+        preload();
+
+        final long withoutIndex = diskSpaceUsed();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE INDEX bookings_property_dates_idx ON bookings (property_id, start_date, end_date)");
+        }
+        connection.commit();
+        indexBytes = diskSpaceUsed() - withoutIndex;
+
+        overlap = connection.prepareStatement("SELECT COUNT(*) FROM bookings WHERE property_id = ? "
+                + "AND status = 'CONFIRMED' AND start_date <= ? AND end_date >= ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        System.out.printf(
+                "%n[%s] rows=%d range index=%d MiB table+indexes=%d MiB%n",
+                columnType,
+                (long) properties * stays,
+                indexBytes / (1024 * 1024),
+                diskSpaceUsed() / (1024 * 1024));
+
+        connection.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // A one week stay requested somewhere in the three years of a random property
+    @Benchmark
+    public long overlapCheck() throws SQLException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final LocalDate start = FIRST_DAY.plusDays(random.nextInt(DAYS));
+        overlap.setLong(1, random.nextInt(properties));
+        overlap.setObject(2, start.plusDays(6));
+        overlap.setObject(3, start);
+        try (ResultSet result = overlap.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private void preload() throws SQLException {
+        final int spacing = DAYS / stays;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO bookings (id, property_id, start_date, end_date, status) VALUES (?, ?, ?, ?, ?)")) {
+            long id = 0;
+            for (int property = 0; property < properties; property++) {
+                for (int stay = 0; stay < stays; stay++) {
+                    final LocalDate start = FIRST_DAY.plusDays((long) stay * spacing);
+                    insert.setLong(1, id++);
+                    insert.setLong(2, property);
+                    insert.setObject(3, start);
+                    insert.setObject(4, start.plusDays(Math.max(1, spacing - 2)));
+                    insert.setString(5, stay % 10 == 0 ? "CANCELLED" : "CONFIRMED");
+                    insert.addBatch();
+                    if (id % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private long diskSpaceUsed() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("CALL DISK_SPACE_USED('BOOKINGS')")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.hostfully.app.report.service;
+
+import com.hostfully.app.infra.cache.OccupancyReportCache;
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.BookingStayView;
+import com.hostfully.app.infra.repository.DailyOccupancyRepository;
+import com.hostfully.app.infra.repository.DailyOccupancySummary;
+import com.hostfully.app.report.domain.OccupancyReport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+// A whole-portfolio report over 100k properties and three years, one stay of STAY_NIGHTS a week per property (~15M
+// stays, the first year from the archive, every 10th cancelled). The repositories are generated in memory and each of
+// their calls pays roundTripMicros of simulated latency, so this measures the fork/join split and the primitive
+// accumulators; the queries themselves are covered by DateRangeScanBenchmark. The report goes through
+// OccupancyReportCache as GetOccupancyReport does: the heap it retains per property row, which max-rows is sized from,
+// is printed at the end of each trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OccupancyAggregatorBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2023, 1, 1);
+    private static final LocalDate TO = FROM.plusYears(3).minusDays(1);
+    private static final LocalDate ARCHIVED_BEFORE = FROM.plusYears(1);
+    private static final int WEEKS = (int) (TO.toEpochDay() - FROM.toEpochDay() + 1) / 7;
+    private static final int STAY_NIGHTS = 3;
+
+    @Param({"100000"})
+    private int properties;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    @Param({"1000"})
+    private int chunkSize;
+
+    @Param({"500"})
+    private long roundTripMicros;
+
+    private List<String> propertyIds;
+    private OccupancyAggregator aggregator;
+    private OccupancyReportCache cache;
+    private OccupancyReport lastReport;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        propertyIds = IntStream.range(0, properties)
+                .mapToObj(i -> String.format("P%011d", i))
+                .toList();
+        aggregator = new OccupancyAggregator(
+                repository(DailyOccupancyRepository.class, this::summarize),
+                repository(BookingRepository.class, (ids, from, to) -> stays(ids, ARCHIVED_BEFORE, to)),
+                repository(BookingArchiveRepository.class, (ids, from, to) -> stays(ids, from, ARCHIVED_BEFORE)),
+                new NoTransactionManager(),
+                parallelism,
+                chunkSize);
+    }
+
+    // A new cache per invocation, every report is a miss
+    @Setup(Level.Invocation)
+    public void newCache() {
+        cache = new OccupancyReportCache(1_000_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        aggregator.shutdown();
+
+        final long before = usedHeap();
+        lastReport = null;
+        cache = null;
+        final long retained = before - usedHeap();
+        System.out.printf("%nreport of %d properties: ~%d bytes per row%n", properties, retained / properties);
+    }
+
+    @Benchmark
+    public OccupancyReport aggregate() {
+        lastReport = cache.get(
+                new OccupancyReportCache.Key(FROM, TO, List.of()),
+                key -> new OccupancyReport(
+                        key.from(), key.to(), Instant.now(), aggregator.aggregate(propertyIds, key.from(), key.to())));
+        return lastReport;
+    }
+
+    // Each stay holds its nights in the projection, booked days are the nights of the confirmed ones
+    private List<DailyOccupancySummary> summarize(
+            final Collection<String> ids, final LocalDate from, final LocalDate to) {
+        final long bookedDays = (long) WEEKS * STAY_NIGHTS * 9 / 10;
+        return ids.stream().<DailyOccupancySummary>map(id -> new Summary(id, bookedDays, 0L)).toList();
+    }
+
+    // Stays arriving in [from, to), one a week per property
+    private static Stream<BookingStayView> stays(
+            final Collection<String> ids, final LocalDate from, final LocalDate to) {
+        final int firstWeek = (int) (from.toEpochDay() - FROM.toEpochDay()) / 7;
+        final int lastWeek = Math.min(WEEKS, (int) (to.toEpochDay() - FROM.toEpochDay()) / 7);
+        return ids.stream().flatMap(id -> IntStream.range(firstWeek, lastWeek).mapToObj(week -> {
+            final LocalDate start = FROM.plusWeeks(week);
+            final BookingStatus status = week % 10 == 0 ? BookingStatus.CANCELLED : BookingStatus.CONFIRMED;
+            return new Stay(id, status, start, start.plusDays(STAY_NIGHTS - 1));
+        }));
+    }
+
+    // Only the report queries are answered, each after one simulated round trip
+    @SuppressWarnings("unchecked")
+    private <T> T repository(final Class<T> type, final ReportQuery query) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (args == null || args.length != 3 || !(args[0] instanceof Collection<?> ids))
+                throw new UnsupportedOperationException(method.getName());
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+            return query.run((Collection<String>) ids, (LocalDate) args[1], (LocalDate) args[2]);
+        });
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @FunctionalInterface
+    private interface ReportQuery {
+        Object run(Collection<String> ids, LocalDate from, LocalDate to);
+    }
+
+    private record Summary(String propertyId, Long bookedDays, Long blockedDays) implements DailyOccupancySummary {
+
+        @Override
+        public String getPropertyId() {
+            return propertyId;
+        }
+
+        @Override
+        public Long getBookedDays() {
+            return bookedDays;
+        }
+
+        @Override
+        public Long getBlockedDays() {
+            return blockedDays;
+        }
+    }
+
+    private record Stay(String propertyId, BookingStatus status, LocalDate startDate, LocalDate endDate)
+            implements BookingStayView {
+
+        @Override
+        public String getPropertyId() {
+            return propertyId;
+        }
+
+        @Override
+        public BookingStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        @Override
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+    }
+
+    // The aggregator runs each leaf in a read-only transaction, there is no database behind it here
+    private static final class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(final TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(final TransactionStatus status) {}
+
+        @Override
+        public void rollback(final TransactionStatus status) {}
+    }
+}
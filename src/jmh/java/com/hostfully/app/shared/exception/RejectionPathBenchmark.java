@@ -0,0 +1,60 @@
+package com.hostfully.app.shared.exception;
+
+import com.hostfully.app.booking.exception.OverlapBookingException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+// Cost of turning a booking rejection into a 409 response, stackless domain exception vs a stack capturing one,
+// thrown from a configurable call depth to mimic the servlet/Spring MVC frames under the use case.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class RejectionPathBenchmark {
+
+    private static final String MESSAGE = "We’re unable to process your booking for this property.";
+
+    @Param({"20", "120"})
+    private int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/bookings");
+
+    @Benchmark
+    public void stacklessRejection(final Blackhole blackhole) {
+        try {
+            throwAt(depth, true);
+        } catch (OverlapBookingException ex) {
+            blackhole.consume(handler.handleOverlapBookingException(ex, request));
+        }
+    }
+
+    @Benchmark
+    public void stackCapturingRejection(final Blackhole blackhole) {
+        try {
+            throwAt(depth, false);
+        } catch (StackCapturingOverlapException ex) {
+            blackhole.consume(ex.getStackTrace());
+            blackhole.consume(handler.handleOverlapBookingException(new OverlapBookingException(MESSAGE), request));
+        }
+    }
+
+    private static void throwAt(final int depth, final boolean stackless) {
+        if (depth > 0) {
+            throwAt(depth - 1, stackless);
+            return;
+        }
+
+        if (stackless) throw new OverlapBookingException(MESSAGE);
+        throw new StackCapturingOverlapException(MESSAGE);
+    }
+
+    // Same shape the domain exceptions had before becoming stackless
+    private static final class StackCapturingOverlapException extends RuntimeException {
+        private StackCapturingOverlapException(final String msg) {
+            super(msg);
+        }
+    }
+}
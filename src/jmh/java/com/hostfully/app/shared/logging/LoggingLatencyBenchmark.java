@@ -0,0 +1,108 @@
+package com.hostfully.app.shared.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+
+// Latency a request pays for logging a burst of lines when stdout is slow (each write stalls for a while, like a
+// saturated container log pipe). "sync" is the previous ConsoleAppender setup, "async" the logback-spring.xml one.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class LoggingLatencyBenchmark {
+
+    private static final IllegalStateException FAILURE = new IllegalStateException("connection reset");
+
+    @Param({"sync", "async"})
+    private String pipeline;
+
+    @Param({"20000"})
+    private long writeStallNanos;
+
+    private LoggerContext context;
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new LoggerContext();
+
+        final JsonLogEncoder encoder = new JsonLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        final OutputStreamAppender<ILoggingEvent> stdout = new OutputStreamAppender<>();
+        stdout.setContext(context);
+        stdout.setName("SLOW_STDOUT");
+        stdout.setEncoder(encoder);
+        stdout.setOutputStream(new StallingOutputStream(writeStallNanos));
+        stdout.start();
+
+        Appender<ILoggingEvent> appender = stdout;
+        if ("async".equals(pipeline)) {
+            final AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_CONSOLE");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(stdout);
+            async.start();
+            appender = async;
+        }
+
+        final Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+
+        logger = context.getLogger("com.hostfully.app.booking.usecase.CreateBooking");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    // One request under an error burst: a few INFO lines and a failure logged with its stack trace
+    @Benchmark
+    public void request() {
+        MDC.put(LogContext.REQUEST_ID, "5b7f2c1e-0d7a-4a55-9c53-2f8f1d2c9e10");
+        MDC.put(LogContext.PROPERTY_ID, "SunnyVilla01");
+        MDC.put(LogContext.USE_CASE, "CreateBooking");
+        try {
+            logger.info("Creating booking for property {}", "SunnyVilla01");
+            logger.info("Availability checked for {} nights", 3);
+            logger.error("Failed to create a booking: {}", "BOOK-0001", FAILURE);
+            logger.info("Request finished");
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static final class StallingOutputStream extends OutputStream {
+        private final long stallNanos;
+
+        private StallingOutputStream(final long stallNanos) {
+            this.stallNanos = stallNanos;
+        }
+
+        @Override
+        public void write(final int b) {
+            LockSupport.parkNanos(stallNanos);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            LockSupport.parkNanos(stallNanos);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.hostfully.app.shared.pool;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.*;
+
+// 32 threads each running a write use case shaped like CreateBooking (overlap check, insert, read back, outbox row) on
+// a connection held for the whole transaction, with the pool starting at 4 connections. Every statement pays
+// roundTripMicros of simulated network latency, an in-memory H2 answers in microseconds where a database server
+// doesn't. fixed keeps 4 connections, adaptive lets AdaptivePoolSizer grow the pool up to 32 from the acquire time.
+// The final pool size and the mean acquire time are printed at the end of each trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(32)
+@Fork(1)
+public class ConnectionPoolLoadBenchmark {
+
+    private static final int INITIAL_POOL_SIZE = 4;
+    private static final int PROPERTIES = 1_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+
+    @Param({"fixed", "adaptive"})
+    private String mode;
+
+    @Param({"500"})
+    private long roundTripMicros;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HikariDataSource dataSource;
+    private ScheduledExecutorService scheduler;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:pool-load;DB_CLOSE_DELAY=-1");
+        config.setPoolName("pool-load");
+        config.setMaximumPoolSize(INITIAL_POOL_SIZE);
+        config.setMinimumIdle(INITIAL_POOL_SIZE);
+        config.setConnectionTimeout(30_000);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE bookings (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "property_id BIGINT NOT NULL, start_date DATE NOT NULL, end_date DATE NOT NULL, "
+                    + "status VARCHAR(50) NOT NULL)");
+            statement.execute(
+                    "CREATE INDEX bookings_property_dates_idx ON bookings (property_id, start_date, end_date)");
+            statement.execute("CREATE TABLE outbox_events (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + "aggregate_id BIGINT NOT NULL, event_type VARCHAR(20) NOT NULL)");
+        }
+
+        if ("adaptive".equals(mode)) {
+            final AdaptivePoolSizer sizer =
+                    new AdaptivePoolSizer(dataSource, meterRegistry, INITIAL_POOL_SIZE, 32, 2, Duration.ofMillis(2));
+            scheduler = Executors.newSingleThreadScheduledExecutor();
+            scheduler.scheduleWithFixedDelay(sizer::adjust, 200, 200, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        final Timer acquire = meterRegistry
+                .find("hikaricp.connections.acquire")
+                .tag("pool", "pool-load")
+                .timer();
+        System.out.printf(
+                "%n[%s] pool size=%d mean acquire=%.2f ms max acquire=%.2f ms%n",
+                mode,
+                dataSource.getMaximumPoolSize(),
+                acquire.mean(TimeUnit.MICROSECONDS) / 1_000,
+                acquire.max(TimeUnit.MICROSECONDS) / 1_000);
+
+        if (scheduler != null) scheduler.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long createBooking() throws SQLException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long propertyId = random.nextInt(PROPERTIES);
+        final LocalDate start = FIRST_DAY.plusDays(random.nextInt(365));
+        final LocalDate end = start.plusDays(3);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement overlap = connection.prepareStatement("SELECT COUNT(*) FROM bookings "
+                            + "WHERE property_id = ? AND status = 'CONFIRMED' AND start_date <= ? AND end_date >= ?");
+                    PreparedStatement insert = connection.prepareStatement(
+                            "INSERT INTO bookings (property_id, start_date, end_date, status) "
+                                    + "VALUES (?, ?, ?, 'CONFIRMED')",
+                            Statement.RETURN_GENERATED_KEYS);
+                    PreparedStatement read = connection.prepareStatement("SELECT * FROM bookings WHERE id = ?");
+                    PreparedStatement outbox = connection.prepareStatement(
+                            "INSERT INTO outbox_events (aggregate_id, event_type) VALUES (?, 'CREATED')")) {
+                overlap.setLong(1, propertyId);
+                overlap.setObject(2, end);
+                overlap.setObject(3, start);
+                roundTrip();
+                try (ResultSet result = overlap.executeQuery()) {
+                    result.next();
+                }
+
+                insert.setLong(1, propertyId);
+                insert.setObject(2, start);
+                insert.setObject(3, end);
+                roundTrip();
+                insert.executeUpdate();
+                final long id;
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    id = keys.getLong(1);
+                }
+
+                read.setLong(1, id);
+                roundTrip();
+                try (ResultSet result = read.executeQuery()) {
+                    result.next();
+                }
+
+                outbox.setLong(1, id);
+                roundTrip();
+                outbox.executeUpdate();
+
+                roundTrip();
+                connection.commit();
+                return id;
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    private void roundTrip() {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+}
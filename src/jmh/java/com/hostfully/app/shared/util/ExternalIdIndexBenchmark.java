@@ -0,0 +1,92 @@
+package com.hostfully.app.shared.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Insert throughput into a table shaped like bookings (unique VARCHAR(12) external_id index) once it already holds
+// tens of millions of rows, random vs time-ordered ids. File based H2 so the index has to page; the table size
+// (data + indexes) is printed at the end of each trial. Preloading takes a while, lower preloadedRows through the
+// jmh benchmarkParameters setting when iterating locally.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3, time = 20)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExternalIdIndexBenchmark {
+
+    private static final int KEY_SIZE = 12;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"random", "time-ordered"})
+    private String strategy;
+
+    @Param({"20000000"})
+    private long preloadedRows;
+
+    private final SecureRandom random = new SecureRandom();
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long clock;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("external-id-index");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("bench") + ";CACHE_SIZE=65536");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bookings (id BIGINT PRIMARY KEY, external_id VARCHAR(12) NOT NULL)");
+            statement.execute("CREATE UNIQUE INDEX bookings_external_id_idx ON bookings (external_id)");
+        }
+
+        insert = connection.prepareStatement("INSERT INTO bookings (id, external_id) VALUES (?, ?)");
+        // Simulated clock, one millisecond per id, so preloading millions of rows spans realistic time
+        clock = System.currentTimeMillis() - preloadedRows;
+        for (long loaded = 0; loaded < preloadedRows; loaded += BATCH_SIZE) insertBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("CALL DISK_SPACE_USED('BOOKINGS')")) {
+            result.next();
+            System.out.printf(
+                    "%n[%s] rows=%d table+indexes=%d MiB%n", strategy, nextId, result.getLong(1) / (1024 * 1024));
+        }
+
+        connection.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setLong(1, nextId++);
+            insert.setString(2, nextExternalId());
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private String nextExternalId() {
+        if ("time-ordered".equals(strategy)) return NanoIdGenerator.timeOrderedId(random, KEY_SIZE, clock++);
+        return NanoIdGenerator.randomId(random, KEY_SIZE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.hostfully.app.shared.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Id generation throughput on 1 and 64 threads:
+//  - shared: every thread draws from one SecureRandom, as the previous NanoIdUtils based generator did
+//  - local: pool disabled, per-thread SecureRandom
+//  - pooled: pre-generated ring refilled in background, per-thread SecureRandom when drained
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NanoIdGeneratorBenchmark {
+
+    private static final int KEY_SIZE = 12;
+
+    @Param({"shared", "local", "pooled"})
+    private String strategy;
+
+    private final SecureRandom sharedRandom = new SecureRandom();
+    private NanoIdGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        generator = new NanoIdGenerator(KEY_SIZE, "pooled".equals(strategy) ? 4096 : 0, "random");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        generator.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return generate();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threads64() {
+        return generate();
+    }
+
+    private String generate() {
+        if ("shared".equals(strategy)) return NanoIdGenerator.randomId(sharedRandom, KEY_SIZE);
+        return generator.generateId();
+    }
+}
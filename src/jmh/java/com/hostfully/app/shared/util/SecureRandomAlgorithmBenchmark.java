@@ -0,0 +1,40 @@
+package com.hostfully.app.shared.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Id generation throughput with one SecureRandom per thread, by algorithm, on 1 and 64 threads:
+//  - NativePRNG: what new SecureRandom() resolves to on Linux, nextBytes takes a JVM-wide lock
+//  - DRBG: what NanoIdGenerator uses, the lock is per instance
+//  - SHA1PRNG: per instance as well, for reference
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecureRandomAlgorithmBenchmark {
+
+    private static final int KEY_SIZE = 12;
+
+    @Param({"NativePRNG", "DRBG", "SHA1PRNG"})
+    private String algorithm;
+
+    private SecureRandom random;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchAlgorithmException {
+        random = SecureRandom.getInstance(algorithm);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String singleThread() {
+        return NanoIdGenerator.randomId(random, KEY_SIZE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String threads64() {
+        return NanoIdGenerator.randomId(random, KEY_SIZE);
+    }
+}
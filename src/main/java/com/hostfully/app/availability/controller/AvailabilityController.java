@@ -0,0 +1,39 @@
+package com.hostfully.app.availability.controller;
+
+import com.hostfully.app.availability.controller.dto.AvailabilityCheckRequest;
+import com.hostfully.app.availability.domain.StayAvailability;
+import com.hostfully.app.availability.domain.StayRange;
+import com.hostfully.app.availability.index.Occupancy;
+import com.hostfully.app.availability.usecase.CheckAvailability;
+import com.hostfully.app.availability.usecase.GetOccupancy;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@AllArgsConstructor
+public class AvailabilityController {
+
+    private final GetOccupancy getOccupancy;
+    private final CheckAvailability checkAvailability;
+
+    // Confirmed bookings and blocks overlapping [from, to], e.g. ?from=2025-01-01&to=2025-01-31
+    @GetMapping("/v1/properties/{id}/availability")
+    public ResponseEntity<List<Occupancy>> getOccupancy(
+            @PathVariable String id, @RequestParam LocalDate from, @RequestParam LocalDate to) {
+        return ResponseEntity.ok(getOccupancy.execute(id, from, to));
+    }
+
+    // Whether each candidate stay could be booked, in the order of the request
+    @PostMapping("/v1/properties/{id}/availability/check")
+    public ResponseEntity<List<StayAvailability>> checkAvailability(
+            @PathVariable String id, @Valid @RequestBody AvailabilityCheckRequest request) {
+        final List<StayRange> stays = request.stays().stream()
+                .map(stay -> new StayRange(stay.startDate(), stay.endDate()))
+                .toList();
+        return ResponseEntity.ok(checkAvailability.execute(id, stays));
+    }
+}
@@ -0,0 +1,28 @@
+package com.hostfully.app.availability.controller;
+
+import com.hostfully.app.availability.stream.AvailabilityStreamHub;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@AllArgsConstructor
+public class AvailabilityStreamController {
+
+    private final AvailabilityStreamHub availabilityStreamHub;
+
+    @GetMapping(value = "/v1/properties/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProperty(@PathVariable String id) {
+        return availabilityStreamHub.open(Set.of(id));
+    }
+
+    // One connection for many properties, e.g. /v1/availability/stream?properties=PROP-1,PROP-2
+    @GetMapping(value = "/v1/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProperties(@RequestParam List<String> properties) {
+        return availabilityStreamHub.open(new LinkedHashSet<>(properties));
+    }
+}
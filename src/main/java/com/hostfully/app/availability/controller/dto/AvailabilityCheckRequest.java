@@ -0,0 +1,26 @@
+package com.hostfully.app.availability.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.hostfully.app.shared.util.DateRangeValidator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.util.List;
+
+public record AvailabilityCheckRequest(
+        @NotNull(message = "Stays are required")
+                @Size(min = 1, max = 500, message = "Between 1 and 500 stays can be checked at once")
+                List<@Valid @NotNull Stay> stays) {
+
+    public record Stay(
+            @NotNull(message = "Start date is required") LocalDate startDate,
+            @NotNull(message = "End date is required") LocalDate endDate) {
+        @AssertTrue(message = "End date must be after start date")
+        @JsonIgnore
+        public boolean isEndAfterStart() {
+            // Missing dates are reported by @NotNull
+            if (startDate == null || endDate == null) return true;
+            return DateRangeValidator.validateDateRange(startDate, endDate, false);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.hostfully.app.availability.domain;
+
+import java.time.LocalDate;
+
+public record StayAvailability(LocalDate startDate, LocalDate endDate, boolean available) {}
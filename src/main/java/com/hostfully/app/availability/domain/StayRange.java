@@ -0,0 +1,6 @@
+package com.hostfully.app.availability.domain;
+
+import java.time.LocalDate;
+
+// Closed date range [startDate, endDate], a candidate stay or the dates held by a booking or block
+public record StayRange(LocalDate startDate, LocalDate endDate) {}
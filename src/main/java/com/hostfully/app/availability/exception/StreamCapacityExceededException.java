@@ -0,0 +1,14 @@
+package com.hostfully.app.availability.exception;
+
+import com.hostfully.app.shared.exception.DomainException;
+
+public class StreamCapacityExceededException extends DomainException {
+    public StreamCapacityExceededException(String msg) {
+        super(msg);
+    }
+
+    @Override
+    public String getTitle() {
+        return "Too many availability streams";
+    }
+}
@@ -0,0 +1,14 @@
+package com.hostfully.app.availability.exception;
+
+import com.hostfully.app.shared.exception.DomainException;
+
+public class TooManyPropertiesException extends DomainException {
+    public TooManyPropertiesException(String msg) {
+        super(msg);
+    }
+
+    @Override
+    public String getTitle() {
+        return "Too many properties";
+    }
+}
@@ -0,0 +1,213 @@
+package com.hostfully.app.availability.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.OccupancyView;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Node-local occupancy read model, kept up to date by tailing the outbox: the event id is the change sequence.
+// On startup the last snapshot is mapped and only the events after its sequence are replayed, so a restart doesn't
+// read every booking and block again. Without a usable snapshot (none yet, unreadable, older than the outbox
+// retention so events it needs may be purged, or written from another database) the index is rebuilt from the tables.
+@Component
+public class AvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    private final OccupancyIndex index = new OccupancyIndex();
+
+    private final BookingRepository bookingRepository;
+    private final BlockRepository blockRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper mapper;
+    private final Path snapshotPath;
+    private final int batchSize;
+    private final Duration settle;
+    private final Duration retention;
+
+    // Id and creation time of the last outbox event applied, written by one thread at a time (load, refresh)
+    private volatile long sequence;
+    private volatile Instant sequenceCreatedAt;
+
+    public AvailabilityIndex(
+            final BookingRepository bookingRepository,
+            final BlockRepository blockRepository,
+            final OutboxEventRepository outboxEventRepository,
+            final ObjectMapper mapper,
+            @Value("${availability.index.snapshot-path}") final Path snapshotPath,
+            @Value("${availability.index.batch-size}") final int batchSize,
+            @Value("${outbox.relay.settle}") final Duration settle,
+            @Value("${outbox.retention}") final Duration retention,
+            final MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.blockRepository = blockRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.mapper = mapper;
+        this.snapshotPath = snapshotPath;
+        this.batchSize = batchSize;
+        this.settle = settle;
+        this.retention = retention;
+
+        Gauge.builder("availability.index.size", index, OccupancyIndex::size).register(meterRegistry);
+    }
+
+    public List<Occupancy> occupied(final String propertyId, final LocalDate from, final LocalDate to) {
+        return index.occupied(propertyId, from, to);
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    @PostConstruct
+    public synchronized void load() {
+        final long started = System.nanoTime();
+        final Optional<OccupancySnapshot> snapshot = readSnapshot()
+                .filter(candidate -> candidate.writtenAt().isAfter(Instant.now().minus(retention)))
+                .filter(this::fromThisDatabase);
+
+        if (snapshot.isPresent()) {
+            snapshot.get().entries().forEach(index::put);
+            sequence = snapshot.get().sequence();
+            sequenceCreatedAt = snapshot.get().sequenceCreatedAt();
+            final int replayed = replay();
+            log.info(
+                    "Availability index loaded from snapshot at {} ({} entries, {} events replayed) in {} ms",
+                    snapshot.get().sequence(),
+                    index.size(),
+                    replayed,
+                    elapsedMillis(started));
+        } else {
+            rebuild();
+            log.info(
+                    "Availability index rebuilt at {} ({} entries) in {} ms",
+                    sequence,
+                    index.size(),
+                    elapsedMillis(started));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${availability.index.refresh-interval-ms}")
+    public synchronized void refresh() {
+        try {
+            replay();
+        } catch (DataAccessException ex) {
+            log.warn("Failed to refresh the availability index at {}", sequence, ex);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${availability.index.snapshot-interval-ms}")
+    public void snapshot() {
+        final OccupancySnapshot snapshot;
+        synchronized (this) {
+            snapshot = new OccupancySnapshot(sequence, sequenceCreatedAt, Instant.now(), index.all());
+        }
+
+        try {
+            snapshot.write(snapshotPath);
+            if (log.isDebugEnabled())
+                log.debug("Availability index snapshot written at {} ({} entries)", snapshot.sequence(), index.size());
+        } catch (IOException ex) {
+            log.warn("Failed to write the availability index snapshot to {}", snapshotPath, ex);
+        }
+    }
+
+    // Events younger than the settle window are left for the next run, same as the outbox relay: a sequence moved
+    // past a lower id that wasn't committed yet would skip it for good
+    private int replay() {
+        int replayed = 0;
+        List<OutboxEventEntity> batch;
+        do {
+            batch = outboxEventRepository.findByIdGreaterThanAndCreatedAtBeforeOrderById(
+                    sequence, Instant.now().minus(settle), Limit.of(batchSize));
+            batch.forEach(this::apply);
+            if (!batch.isEmpty()) moveTo(batch.getLast());
+            replayed += batch.size();
+        } while (batch.size() == batchSize);
+        return replayed;
+    }
+
+    // The sequence is read first: events committed while the tables are read are replayed on top, which is harmless
+    private void rebuild() {
+        sequence = 0L;
+        sequenceCreatedAt = null;
+        outboxEventRepository
+                .findTopByCreatedAtBeforeOrderByIdDesc(Instant.now().minus(settle))
+                .ifPresent(this::moveTo);
+
+        bookingRepository.findConfirmedOccupancy().forEach(view -> index.put(toOccupancy(AggregateType.BOOKING, view)));
+        blockRepository.findOccupancy().forEach(view -> index.put(toOccupancy(AggregateType.BLOCK, view)));
+    }
+
+    private void moveTo(final OutboxEventEntity event) {
+        sequence = event.getId();
+        sequenceCreatedAt = event.getCreatedAt().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    // The event the snapshot was taken at must still be in the outbox with the same creation time. A snapshot left by
+    // another database (an in-memory one before the restart) would otherwise bring back its occupancy, and its
+    // sequence would skip the events of this database until their ids caught up. At sequence 0 there is nothing to
+    // tell the databases apart, the index is rebuilt
+    private boolean fromThisDatabase(final OccupancySnapshot snapshot) {
+        if (snapshot.sequence() == 0 || snapshot.sequenceCreatedAt() == null) return false;
+
+        final boolean matches = outboxEventRepository
+                .findById(snapshot.sequence())
+                .map(event -> event.getCreatedAt().truncatedTo(ChronoUnit.MILLIS))
+                .filter(createdAt -> createdAt.equals(snapshot.sequenceCreatedAt()))
+                .isPresent();
+        if (!matches)
+            log.info("Ignoring availability index snapshot at {}, written from another database", snapshot.sequence());
+        return matches;
+    }
+
+    private void apply(final OutboxEventEntity event) {
+        try {
+            Occupancy.fromEvent(event, mapper).ifPresentOrElse(index::put, () -> index.remove(event.getAggregateId()));
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // A malformed event shouldn't stop the index, the next change of the aggregate corrects it
+            log.warn("Skipping outbox event {} in the availability index", event.getId(), ex);
+        }
+    }
+
+    private Optional<OccupancySnapshot> readSnapshot() {
+        try {
+            return OccupancySnapshot.read(snapshotPath);
+        } catch (IOException ex) {
+            log.warn("Ignoring unreadable availability index snapshot {}", snapshotPath, ex);
+            return Optional.empty();
+        }
+    }
+
+    private static Occupancy toOccupancy(final AggregateType type, final OccupancyView view) {
+        return new Occupancy(view.getPropertyId(), type, view.getId(), view.getStartDate(), view.getEndDate());
+    }
+
+    private static long elapsedMillis(final long started) {
+        return Duration.ofNanos(System.nanoTime() - started).toMillis();
+    }
+}
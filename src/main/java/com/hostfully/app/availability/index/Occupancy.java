@@ -0,0 +1,37 @@
+package com.hostfully.app.availability.index;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import java.time.LocalDate;
+import java.util.Optional;
+
+// Dates held on a property by a confirmed booking or a block
+public record Occupancy(String propertyId, AggregateType type, String id, LocalDate startDate, LocalDate endDate) {
+
+    public boolean overlaps(final LocalDate from, final LocalDate to) {
+        return !startDate.isAfter(to) && !endDate.isBefore(from);
+    }
+
+    // What the aggregate of an outbox event occupies after the change, empty once it holds no dates (deleted, or a
+    // booking that isn't confirmed anymore)
+    public static Optional<Occupancy> fromEvent(final OutboxEventEntity event, final ObjectMapper mapper)
+            throws JsonProcessingException {
+        if (event.getEventType() == EventType.DELETED || event.getPayload() == null) return Optional.empty();
+
+        final JsonNode payload = mapper.readTree(event.getPayload());
+        if (event.getAggregateType() == AggregateType.BOOKING
+                && !BookingStatus.CONFIRMED.name().equals(payload.path("status").asText())) return Optional.empty();
+
+        return Optional.of(new Occupancy(
+                event.getPropertyId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                LocalDate.parse(payload.path("startDate").asText()),
+                LocalDate.parse(payload.path("endDate").asText())));
+    }
+}
@@ -0,0 +1,54 @@
+package com.hostfully.app.availability.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory occupancy of every property, keyed by booking or block id so replaying a change twice is harmless
+public class OccupancyIndex {
+
+    private final Map<String, Map<String, Occupancy>> byProperty = new ConcurrentHashMap<>();
+    private final Map<String, String> propertyById = new ConcurrentHashMap<>();
+
+    public void put(final Occupancy occupancy) {
+        final String previousProperty = propertyById.put(occupancy.id(), occupancy.propertyId());
+        if (previousProperty != null && !previousProperty.equals(occupancy.propertyId()))
+            removeFromProperty(previousProperty, occupancy.id());
+
+        byProperty
+                .computeIfAbsent(occupancy.propertyId(), key -> new ConcurrentHashMap<>())
+                .put(occupancy.id(), occupancy);
+    }
+
+    public void remove(final String id) {
+        final String propertyId = propertyById.remove(id);
+        if (propertyId != null) removeFromProperty(propertyId, id);
+    }
+
+    public List<Occupancy> occupied(final String propertyId, final LocalDate from, final LocalDate to) {
+        return byProperty.getOrDefault(propertyId, Map.of()).values().stream()
+                .filter(occupancy -> occupancy.overlaps(from, to))
+                .sorted(Comparator.comparing(Occupancy::startDate))
+                .toList();
+    }
+
+    public List<Occupancy> all() {
+        final List<Occupancy> all = new ArrayList<>(propertyById.size());
+        byProperty.values().forEach(occupancies -> all.addAll(occupancies.values()));
+        return all;
+    }
+
+    public int size() {
+        return propertyById.size();
+    }
+
+    private void removeFromProperty(final String propertyId, final String id) {
+        byProperty.computeIfPresent(propertyId, (key, occupancies) -> {
+            occupancies.remove(id);
+            return occupancies.isEmpty() ? null : occupancies;
+        });
+    }
+}
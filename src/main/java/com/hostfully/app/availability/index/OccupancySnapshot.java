@@ -0,0 +1,119 @@
+package com.hostfully.app.availability.index;
+
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Occupancy index as of an outbox event id (the change sequence). The creation time of that event ties the snapshot to
+// the database it was built from: another database (a fresh in-memory one) won't have the same event. Binary and
+// memory mapped:
+//   header  magic, format, sequence, sequence event created at and written at (epoch millis), entry count
+//   entry   type, property id, booking/block id (length-prefixed UTF-8), start and end (epoch days)
+// Written to a temporary file and moved over the previous snapshot, so a crash never leaves a torn file behind.
+public record OccupancySnapshot(
+        long sequence, Instant sequenceCreatedAt, Instant writtenAt, List<Occupancy> entries) {
+
+    private static final int MAGIC = 0x4F434331; // "OCC1"
+    private static final int FORMAT = 2;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4;
+    // Sequence 0, no event applied yet
+    private static final long NO_EVENT = Long.MIN_VALUE;
+    private static final AggregateType[] TYPES = AggregateType.values();
+
+    public void write(final Path path) throws IOException {
+        final List<byte[]> strings = new ArrayList<>(entries.size() * 2);
+        long size = HEADER_SIZE;
+        for (Occupancy entry : entries) {
+            final byte[] propertyId = entry.propertyId().getBytes(StandardCharsets.UTF_8);
+            final byte[] id = entry.id().getBytes(StandardCharsets.UTF_8);
+            strings.add(propertyId);
+            strings.add(id);
+            size += 1 + 2 + propertyId.length + 2 + id.length + 4 + 4;
+        }
+
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putInt(FORMAT).putLong(sequence);
+            buffer.putLong(sequenceCreatedAt == null ? NO_EVENT : sequenceCreatedAt.toEpochMilli());
+            buffer.putLong(writtenAt.toEpochMilli());
+            buffer.putInt(entries.size());
+
+            for (int i = 0; i < entries.size(); i++) {
+                final Occupancy entry = entries.get(i);
+                buffer.put((byte) entry.type().ordinal());
+                putString(buffer, strings.get(i * 2));
+                putString(buffer, strings.get(i * 2 + 1));
+                buffer.putInt((int) entry.startDate().toEpochDay());
+                buffer.putInt((int) entry.endDate().toEpochDay());
+            }
+            buffer.force();
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Empty when there is no snapshot yet, an unreadable one is reported as an IOException
+    public static Optional<OccupancySnapshot> read(final Path path) throws IOException {
+        if (!Files.exists(path)) return Optional.empty();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT)
+                throw new IOException("Not an occupancy snapshot: " + path);
+
+            final long sequence = buffer.getLong();
+            final long sequenceCreatedAt = buffer.getLong();
+            final Instant writtenAt = Instant.ofEpochMilli(buffer.getLong());
+            final int count = buffer.getInt();
+
+            final List<Occupancy> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final AggregateType type = TYPES[buffer.get()];
+                final String propertyId = getString(buffer);
+                final String id = getString(buffer);
+                final LocalDate startDate = LocalDate.ofEpochDay(buffer.getInt());
+                final LocalDate endDate = LocalDate.ofEpochDay(buffer.getInt());
+                entries.add(new Occupancy(propertyId, type, id, startDate, endDate));
+            }
+            return Optional.of(new OccupancySnapshot(
+                    sequence,
+                    sequenceCreatedAt == NO_EVENT ? null : Instant.ofEpochMilli(sequenceCreatedAt),
+                    writtenAt,
+                    entries));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new IOException("Truncated occupancy snapshot: " + path, ex);
+        }
+    }
+
+    private static void putString(final ByteBuffer buffer, final byte[] value) {
+        buffer.putShort((short) value.length).put(value);
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final byte[] value = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
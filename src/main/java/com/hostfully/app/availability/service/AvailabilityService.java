@@ -1,24 +1,71 @@
 package com.hostfully.app.availability.service;
 
+import com.hostfully.app.availability.domain.StayRange;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.infra.repository.BlockRepository;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
 import java.time.LocalDate;
-import lombok.AllArgsConstructor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
-@AllArgsConstructor
 public class AvailabilityService {
 
+    private final PropertyRepository propertyRepository;
     private final BlockRepository blockRepository;
     private final BookingRepository bookingRepository;
+    // When the database rejects overlapping confirmed bookings itself (PostgreSQL exclusion constraint) the booking
+    // pre-check is skipped, blocks are still checked here
+    private final boolean overlapEnforcedByDatabase;
+
+    public AvailabilityService(
+            final PropertyRepository propertyRepository,
+            final BlockRepository blockRepository,
+            final BookingRepository bookingRepository,
+            @Value("${booking.overlap.enforced-by-database}") final boolean overlapEnforcedByDatabase) {
+        this.propertyRepository = propertyRepository;
+        this.blockRepository = blockRepository;
+        this.bookingRepository = bookingRepository;
+        this.overlapEnforcedByDatabase = overlapEnforcedByDatabase;
+    }
 
     public Boolean canBook(
             final LocalDate startDate, final LocalDate endDate, final String propertyId, final String bookingId) {
-        return !bookingRepository.hasOverlapping(propertyId, startDate, endDate, bookingId)
+        return (overlapEnforcedByDatabase
+                        || !bookingRepository.hasOverlapping(propertyId, startDate, endDate, bookingId))
                 && !blockRepository.hasOverlapping(propertyId, startDate, endDate);
     }
 
+    // Every stay answered from one read of the property's confirmed bookings over the span of all of them plus its
+    // blocks, element i tells whether stays.get(i) is free. For quotes only: the blocks come from the node's
+    // second-level cache, which trails blocks changed on other nodes by the invalidation poll, and the bookings are
+    // always read since nothing written after this check would enforce their overlap. Writes go through canBook
+    public List<Boolean> canBookAll(final String propertyId, final List<StayRange> stays) {
+        final PropertyEntity property = propertyRepository
+                .findByExternalId(propertyId)
+                .orElseThrow(() -> new PropertyNotFoundException("Property not found by ID provided"));
+        if (stays.isEmpty()) return List.of();
+
+        final LocalDate from =
+                stays.stream().map(StayRange::startDate).min(Comparator.naturalOrder()).orElseThrow();
+        final LocalDate to = stays.stream().map(StayRange::endDate).max(Comparator.naturalOrder()).orElseThrow();
+
+        final List<StayRange> occupied = new ArrayList<>();
+        bookingRepository
+                .findConfirmedOccupancy(propertyId, from, to)
+                .forEach(booking -> occupied.add(new StayRange(booking.getStartDate(), booking.getEndDate())));
+        property.getBlocks().forEach(block -> occupied.add(new StayRange(block.getStartDate(), block.getEndDate())));
+
+        final boolean[] free = OverlapSweep.free(stays, occupied);
+        return IntStream.range(0, free.length).mapToObj(index -> free[index]).toList();
+    }
+
     public Boolean canBlock(final LocalDate startDate, final LocalDate endDate, final String propertyId) {
         return !bookingRepository.hasOverlapping(propertyId, startDate, endDate, null);
     }
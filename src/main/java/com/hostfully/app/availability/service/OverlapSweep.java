@@ -0,0 +1,41 @@
+package com.hostfully.app.availability.service;
+
+import com.hostfully.app.availability.domain.StayRange;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Answers many candidate stays against the occupied ranges of a property in one pass. Candidates are visited by end
+// date while the occupied ranges starting on or before that date are taken in by start date; a candidate overlaps one
+// of them exactly when the latest end taken in so far is on or after its start. O((n + m) log(n + m)) instead of the
+// n * m comparisons (or n queries) of checking each candidate on its own
+final class OverlapSweep {
+
+    private OverlapSweep() {}
+
+    // free[i] is true when candidates.get(i) overlaps none of the occupied ranges
+    static boolean[] free(final List<StayRange> candidates, final List<StayRange> occupied) {
+        final List<StayRange> byStart = occupied.stream()
+                .sorted(Comparator.comparing(StayRange::startDate))
+                .toList();
+        final int[] byEnd = IntStream.range(0, candidates.size())
+                .boxed()
+                .sorted(Comparator.comparing(index -> candidates.get(index).endDate()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        final boolean[] free = new boolean[candidates.size()];
+        LocalDate latestEnd = null;
+        int next = 0;
+        for (final int index : byEnd) {
+            final StayRange candidate = candidates.get(index);
+            while (next < byStart.size() && !byStart.get(next).startDate().isAfter(candidate.endDate())) {
+                final LocalDate end = byStart.get(next++).endDate();
+                if (latestEnd == null || end.isAfter(latestEnd)) latestEnd = end;
+            }
+            free[index] = latestEnd == null || latestEnd.isBefore(candidate.startDate());
+        }
+        return free;
+    }
+}
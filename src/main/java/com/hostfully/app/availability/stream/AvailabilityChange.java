@@ -0,0 +1,7 @@
+package com.hostfully.app.availability.stream;
+
+import java.time.Instant;
+
+// Pushed to the streams of a property when one of its bookings or blocks changed. It only says what changed, clients
+// read the availability again for the dates they care about.
+public record AvailabilityChange(String propertyId, String type, String id, Instant occurredAt) {}
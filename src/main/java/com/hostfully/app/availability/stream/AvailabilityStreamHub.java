@@ -0,0 +1,132 @@
+package com.hostfully.app.availability.stream;
+
+import com.hostfully.app.availability.exception.StreamCapacityExceededException;
+import com.hostfully.app.availability.exception.TooManyPropertiesException;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import com.hostfully.app.infra.cache.InvalidationBus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Fans the committed booking and block changes of every node out to the availability streams open on this node.
+// Each stream owns a bounded buffer and a virtual thread that writes it, see AvailabilitySubscriber.
+@Component
+public class AvailabilityStreamHub {
+
+    private final Map<String, Set<AvailabilitySubscriber>> subscribersByProperty = new ConcurrentHashMap<>();
+    private final Set<AvailabilitySubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    private final int maxSubscribers;
+    private final int maxProperties;
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Duration heartbeat;
+
+    public AvailabilityStreamHub(
+            @Value("${availability.stream.max-subscribers}") final int maxSubscribers,
+            @Value("${availability.stream.max-properties}") final int maxProperties,
+            @Value("${availability.stream.buffer-size}") final int bufferSize,
+            @Value("${availability.stream.timeout}") final Duration timeout,
+            @Value("${availability.stream.heartbeat}") final Duration heartbeat,
+            final InvalidationBus invalidationBus,
+            final MeterRegistry meterRegistry) {
+        this.maxSubscribers = maxSubscribers;
+        this.maxProperties = maxProperties;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+
+        invalidationBus.subscribeAll(Type.BOOKING, this::onChange);
+        invalidationBus.subscribeAll(Type.BLOCK, this::onChange);
+
+        Gauge.builder("availability.stream.subscribers", openStreams, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter open(final Set<String> propertyIds) {
+        if (propertyIds.size() > maxProperties)
+            throw new TooManyPropertiesException("A stream can follow at most " + maxProperties + " properties");
+        if (openStreams.incrementAndGet() > maxSubscribers) {
+            openStreams.decrementAndGet();
+            throw new StreamCapacityExceededException("No more availability streams can be opened, try again later");
+        }
+
+        final SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        final AvailabilitySubscriber subscriber =
+                new AvailabilitySubscriber(emitter, Set.copyOf(propertyIds), bufferSize);
+        subscribers.add(subscriber);
+        // Added under the entry's lock, a concurrent release could otherwise drop the set being added to
+        for (String propertyId : subscriber.propertyIds())
+            subscribersByProperty.compute(propertyId, (key, targets) -> {
+                final Set<AvailabilitySubscriber> updated = targets != null ? targets : ConcurrentHashMap.newKeySet();
+                updated.add(subscriber);
+                return updated;
+            });
+
+        final Thread sender = Thread.ofVirtual().name("availability-stream").start(() -> {
+            try {
+                while (subscriber.deliverNext(heartbeat)) {
+                    // runs until the stream ends
+                }
+            } finally {
+                // The client went away, make sure the async request is finished as well
+                if (release(subscriber)) subscriber.emitter().complete();
+            }
+        });
+
+        emitter.onCompletion(() -> close(subscriber, sender));
+        emitter.onTimeout(() -> close(subscriber, sender));
+        emitter.onError(ex -> close(subscriber, sender));
+        return emitter;
+    }
+
+    public int openStreams() {
+        return openStreams.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    }
+
+    // Called after commit on the publishing thread (or the bus poller for other nodes), offering never blocks
+    private void onChange(final CacheInvalidation invalidation) {
+        if (invalidation.propertyId() == null) return;
+
+        final Set<AvailabilitySubscriber> targets = subscribersByProperty.get(invalidation.propertyId());
+        if (targets == null || targets.isEmpty()) return;
+
+        final AvailabilityChange change = new AvailabilityChange(
+                invalidation.propertyId(), invalidation.type().name(), invalidation.key(), Instant.now());
+        targets.forEach(subscriber -> subscriber.offer(change));
+    }
+
+    private void close(final AvailabilitySubscriber subscriber, final Thread sender) {
+        release(subscriber);
+        sender.interrupt();
+    }
+
+    private boolean release(final AvailabilitySubscriber subscriber) {
+        if (!subscriber.close()) return false;
+
+        subscribers.remove(subscriber);
+        for (String propertyId : subscriber.propertyIds())
+            subscribersByProperty.computeIfPresent(propertyId, (key, targets) -> {
+                targets.remove(subscriber);
+                return targets.isEmpty() ? null : targets;
+            });
+        openStreams.decrementAndGet();
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hostfully.app.availability.stream;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// One open stream. Changes are queued by the thread that committed them and written by the subscriber's own sender,
+// so a slow client never holds up a use case. When the buffer is full the queued changes are dropped and the client
+// gets a single resync event instead, telling it to read availability again.
+final class AvailabilitySubscriber {
+
+    static final String CHANGE_EVENT = "availability-changed";
+    static final String RESYNC_EVENT = "resync";
+    static final String HEARTBEAT = "heartbeat";
+
+    private final SseEmitter emitter;
+    private final Set<String> propertyIds;
+    private final BlockingQueue<AvailabilityChange> buffer;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean open = new AtomicBoolean(true);
+
+    AvailabilitySubscriber(final SseEmitter emitter, final Set<String> propertyIds, final int bufferSize) {
+        this.emitter = emitter;
+        this.propertyIds = propertyIds;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    Set<String> propertyIds() {
+        return propertyIds;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    // Never blocks, called on the publishing thread
+    void offer(final AvailabilityChange change) {
+        if (!buffer.offer(change)) overflowed.set(true);
+    }
+
+    // Waits up to the heartbeat interval for a change, an idle stream gets a comment line so proxies keep the
+    // connection open. Returns false once the stream is closed or the client went away.
+    boolean deliverNext(final Duration heartbeat) {
+        try {
+            final AvailabilityChange change = buffer.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+            if (!open.get()) return false;
+
+            if (overflowed.getAndSet(false)) {
+                buffer.clear();
+                emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(Map.of("propertyIds", propertyIds)));
+            } else if (change != null) {
+                emitter.send(SseEmitter.event().name(CHANGE_EVENT).data(change));
+            } else {
+                emitter.send(SseEmitter.event().comment(HEARTBEAT));
+            }
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (IOException | IllegalStateException ex) {
+            // Client disconnected, or the emitter already completed
+            return false;
+        }
+    }
+
+    // True only for the first call, so a stream is released once whichever way it ends
+    boolean close() {
+        return open.compareAndSet(true, false);
+    }
+}
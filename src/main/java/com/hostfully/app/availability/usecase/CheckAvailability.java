@@ -0,0 +1,33 @@
+package com.hostfully.app.availability.usecase;
+
+import com.hostfully.app.availability.domain.StayAvailability;
+import com.hostfully.app.availability.domain.StayRange;
+import com.hostfully.app.availability.service.AvailabilityService;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import com.hostfully.app.shared.util.DateRangeValidator;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@AllArgsConstructor
+public class CheckAvailability {
+
+    private final AvailabilityService availabilityService;
+
+    // Candidate stays of one property (quotes), checked against the database rather than the availability index
+    @Transactional(readOnly = true)
+    public List<StayAvailability> execute(final String propertyId, final List<StayRange> stays) {
+        if (stays.stream()
+                .anyMatch(stay -> !DateRangeValidator.validateDateRange(stay.startDate(), stay.endDate(), false)))
+            throw new InvalidDateRangeException("End date must be after start date");
+
+        final List<Boolean> available = availabilityService.canBookAll(propertyId, stays);
+        return IntStream.range(0, stays.size())
+                .mapToObj(index -> new StayAvailability(
+                        stays.get(index).startDate(), stays.get(index).endDate(), available.get(index)))
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.hostfully.app.availability.usecase;
+
+import com.hostfully.app.availability.index.AvailabilityIndex;
+import com.hostfully.app.availability.index.Occupancy;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import com.hostfully.app.shared.util.DateRangeValidator;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class GetOccupancy {
+
+    private final AvailabilityIndex availabilityIndex;
+
+    // Served from the node's index, no connection taken. It trails the committed state by about the outbox settle
+    // window, writes still check overlaps against the database
+    public List<Occupancy> execute(final String propertyId, final LocalDate from, final LocalDate to) {
+        if (!DateRangeValidator.validateDateRange(from, to, true))
+            throw new InvalidDateRangeException("The end date must not be before the start date.");
+
+        return availabilityIndex.occupied(propertyId, from, to);
+    }
+}
@@ -1,10 +1,13 @@
 package com.hostfully.app.block.exceptions;
 
-public class BlockNotFoundException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class BlockNotFoundException extends DomainException {
     public BlockNotFoundException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Block not found";
     }
@@ -1,10 +1,13 @@
 package com.hostfully.app.block.exceptions;
 
-public class OverlapBlockException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class OverlapBlockException extends DomainException {
     public OverlapBlockException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Block not allowed";
     }
@@ -4,6 +4,8 @@ import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.block.domain.Block;
 import com.hostfully.app.block.exceptions.BlockGenericException;
 import com.hostfully.app.block.exceptions.OverlapBlockException;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.exception.PropertyNotFoundException;
@@ -11,6 +13,9 @@ import com.hostfully.app.infra.mapper.BlockMapper;
 import com.hostfully.app.infra.repository.BlockRepository;
 import com.hostfully.app.infra.repository.PropertyRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.logging.LogContext;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import com.hostfully.app.shared.util.DateRangeValidator;
 import com.hostfully.app.shared.util.NanoIdGenerator;
 import jakarta.transaction.Transactional;
@@ -33,9 +38,12 @@ public class CreateBlock {
     private final NanoIdGenerator nanoIdGenerator;
     private final IdempotencyService idempotencyService;
     private final AvailabilityService availabilityService;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
     @Transactional
     public Block execute(final CreateBlockCommand createBlockCommand) {
+        LogContext.propertyId(createBlockCommand.property);
         final UUID idempotencyKey = createBlockCommand.idempotencyKey;
         final Optional<Block> result = idempotencyService.getResponse(idempotencyKey, Block.class);
         if (result.isPresent()) return result.get();
@@ -58,6 +66,8 @@ public class CreateBlock {
             final Block blockResult =
                     BlockMapper.toDomain(blockRepository.save(BlockMapper.toEntity(block, propertyEntity)));
             idempotencyService.saveResponse(idempotencyKey, blockResult);
+            outboxService.blockChanged(EventType.CREATED, blockResult);
+            invalidationBus.publish(CacheInvalidation.block(blockResult.getId(), blockResult.getPropertyId()));
             return blockResult;
         } catch (Exception ex) {
             log.error("Failed to create a block: {}", block, ex);
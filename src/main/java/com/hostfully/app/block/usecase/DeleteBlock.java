@@ -1,7 +1,12 @@
 package com.hostfully.app.block.usecase;
 
 import com.hostfully.app.block.exceptions.BlockGenericException;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,10 +19,19 @@ public class DeleteBlock {
     private static final Logger log = LoggerFactory.getLogger(DeleteBlock.class);
 
     private final BlockRepository blockRepository;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
+    @Transactional
     public Boolean execute(final String id) {
         try {
-            return blockRepository.deleteByExternalId(id) > 0;
+            final String propertyId = blockRepository.findPropertyIdByExternalId(id).orElse(null);
+            final boolean deleted = blockRepository.deleteByExternalId(id) > 0;
+            if (deleted) {
+                outboxService.deleted(AggregateType.BLOCK, id, propertyId);
+                invalidationBus.publish(CacheInvalidation.block(id, propertyId));
+            }
+            return deleted;
         } catch (Exception ex) {
             log.error("Failed to delete a block: {}", id);
             throw new BlockGenericException("Unexpected error while removing block", ex);
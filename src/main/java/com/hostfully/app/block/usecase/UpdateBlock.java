@@ -5,6 +5,8 @@ import com.hostfully.app.block.domain.Block;
 import com.hostfully.app.block.exceptions.BlockGenericException;
 import com.hostfully.app.block.exceptions.BlockNotFoundException;
 import com.hostfully.app.block.exceptions.OverlapBlockException;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BlockEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
@@ -12,6 +14,10 @@ import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.infra.mapper.BlockMapper;
 import com.hostfully.app.infra.repository.BlockRepository;
 import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.shared.logging.LogContext;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import com.hostfully.app.shared.util.DateRangeValidator;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
@@ -29,9 +35,12 @@ public class UpdateBlock {
     private final BlockRepository blockRepository;
     private final PropertyRepository propertyRepository;
     private final AvailabilityService availabilityService;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
     @Transactional
     public Block execute(final UpdateBlockCommand updateBlockCommand) {
+        LogContext.propertyId(updateBlockCommand.property);
         final Block block = new Block(
                 updateBlockCommand.id,
                 updateBlockCommand.property,
@@ -39,8 +48,9 @@ public class UpdateBlock {
                 updateBlockCommand.startDate,
                 updateBlockCommand.endDate);
 
-        if (!blockRepository.existsByExternalId(block.getId()))
-            throw new BlockNotFoundException("Block not found by id provided");
+        final String previousPropertyId = blockRepository
+                .findPropertyIdByExternalId(block.getId())
+                .orElseThrow(() -> new BlockNotFoundException("Block not found by id provided"));
 
         if (!DateRangeValidator.validateDateRange(block.getStartDate(), block.getEndDate(), true))
             throw new InvalidDateRangeException("Start date must be before end date");
@@ -54,7 +64,16 @@ public class UpdateBlock {
                 .findByExternalId(block.getId())
                 .orElseThrow(() -> new BlockNotFoundException("Block not found by id provided"));
 
-        return BlockMapper.toDomain(blockEntity);
+        final Block blockResult = BlockMapper.toDomain(blockEntity);
+        // A block moved to another property frees the dates of the previous one: its streams and the consumers of its
+        // events are told the block is gone from it
+        if (!previousPropertyId.equals(blockResult.getPropertyId())) {
+            outboxService.deleted(AggregateType.BLOCK, blockResult.getId(), previousPropertyId);
+            invalidationBus.publish(CacheInvalidation.block(blockResult.getId(), previousPropertyId));
+        }
+        outboxService.blockChanged(EventType.UPDATED, blockResult);
+        invalidationBus.publish(CacheInvalidation.block(blockResult.getId(), blockResult.getPropertyId()));
+        return blockResult;
     }
 
     private void updateBlock(PropertyEntity propertyEntity, Block block) {
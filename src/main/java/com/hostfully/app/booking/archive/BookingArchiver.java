@@ -0,0 +1,91 @@
+package com.hostfully.app.booking.archive;
+
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Moves bookings that can't take part in an overlap check anymore (ended before the horizon, or cancelled long ago) to
+// bookings_archive, so the hot table and its indexes only grow with the bookings still ahead. Each batch is copied and
+// deleted in its own transaction. No outbox event is written: the booking didn't change, the daily occupancy projection
+// keeps its days and GetBooking falls back to the archive.
+@Component
+public class BookingArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingArchiver.class);
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository bookingArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration horizon;
+    private final Duration cancelledHorizon;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public BookingArchiver(
+            final BookingRepository bookingRepository,
+            final BookingArchiveRepository bookingArchiveRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${booking.archive.horizon}") final Duration horizon,
+            @Value("${booking.archive.cancelled-horizon}") final Duration cancelledHorizon,
+            @Value("${booking.archive.batch-size}") final int batchSize,
+            @Value("${booking.archive.max-batches}") final int maxBatches) {
+        this.bookingRepository = bookingRepository;
+        this.bookingArchiveRepository = bookingArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizon = horizon;
+        this.cancelledHorizon = cancelledHorizon;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    // Bounded per run, a backlog (first run on an old table) is worked off over several runs
+    @Scheduled(fixedDelayString = "${booking.archive.interval-ms}")
+    public void archive() {
+        final LocalDate endedBefore = LocalDate.now().minusDays(horizon.toDays());
+        final Instant cancelledBefore = Instant.now().minus(cancelledHorizon);
+
+        int archived = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                final Integer moved =
+                        transactionTemplate.execute(status -> archiveBatch(status, endedBefore, cancelledBefore));
+                archived += moved != null ? moved : 0;
+                if (moved == null || moved < batchSize) break;
+            }
+        } catch (DataAccessException ex) {
+            // e.g. another node archived the same bookings first, the next run picks up what's left
+            log.warn("Failed to archive bookings after {} archived", archived, ex);
+        }
+        if (archived > 0) log.info("Archived {} bookings", archived);
+    }
+
+    // A booking changed between the copy and the delete (a late cancellation, a rebook) rolls the batch back, it's
+    // archived with its new state on a later run
+    private int archiveBatch(
+            final TransactionStatus status, final LocalDate endedBefore, final Instant cancelledBefore) {
+        final List<Long> ids = bookingRepository.findArchivable(endedBefore, cancelledBefore, Limit.of(batchSize));
+        if (ids.isEmpty()) return 0;
+
+        final int copied = bookingArchiveRepository.archive(ids, Instant.now());
+        final int deleted = bookingRepository.deleteArchived(ids);
+        if (deleted != copied) {
+            status.setRollbackOnly();
+            log.debug("Bookings changed while being archived, batch rolled back");
+            return 0;
+        }
+        return deleted;
+    }
+}
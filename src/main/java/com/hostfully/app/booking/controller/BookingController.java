@@ -7,12 +7,16 @@ import com.hostfully.app.booking.domain.Booking;
 import com.hostfully.app.booking.usecase.*;
 import com.hostfully.app.booking.usecase.CreateBooking.CreateBookingCommand;
 import com.hostfully.app.booking.usecase.UpdateBooking.UpdateBookingCommand;
+import com.hostfully.app.shared.admission.AdmissionControl;
+import com.hostfully.app.shared.util.VersionETag;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
@@ -23,21 +27,26 @@ public class BookingController {
     private CreateBooking createBooking;
     private DeleteBooking deleteBooking;
     private GetBooking getBooking;
+    private GetBookingVersion getBookingVersion;
     private CancelBooking cancelBooking;
     private RebookBooking rebookBooking;
     private UpdateBooking updateBooking;
+    private GetBookingPropertyId getBookingPropertyId;
+    private AdmissionControl admissionControl;
 
     @PostMapping
     public ResponseEntity<Booking> createBooking(
             @Valid @RequestBody final BookingRequest request,
             @RequestHeader(value = "Idempotency-Key") final UUID idempotencyKey) {
-        final Booking booking = createBooking.execute(new CreateBookingCommand(
+        final Booking booking = admissionControl.admit(
                 request.property(),
-                request.startDate(),
-                request.endDate(),
-                request.guest(),
-                request.numberGuest(),
-                idempotencyKey));
+                () -> createBooking.execute(new CreateBookingCommand(
+                        request.property(),
+                        request.startDate(),
+                        request.endDate(),
+                        request.guest(),
+                        request.numberGuest(),
+                        idempotencyKey)));
 
         final URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
                 .path("/api/bookings/{id}")
@@ -58,8 +67,10 @@ public class BookingController {
             @Valid @RequestBody final RebookBookingRequest request,
             @PathVariable final String id,
             @RequestHeader(value = "Idempotency-Key") final UUID idempotencyKey) {
-        return ResponseEntity.ok(rebookBooking.execute(
-                new RebookBooking.RebookCommand(id, request.startDate(), request.endDate(), idempotencyKey)));
+        return ResponseEntity.ok(admissionControl.admit(
+                getBookingPropertyId.execute(id),
+                () -> rebookBooking.execute(
+                        new RebookBooking.RebookCommand(id, request.startDate(), request.endDate(), idempotencyKey))));
     }
 
     @DeleteMapping("/{id}")
@@ -69,15 +80,34 @@ public class BookingController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Booking> getBooking(@PathVariable final String id) {
-        return ResponseEntity.ok(getBooking.execute(id));
+    public ResponseEntity<Booking> getBooking(@PathVariable final String id, final WebRequest webRequest) {
+        // Polling clients send back the ETag: compare it with the cached version, or the version alone on a miss
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(VersionETag.of(getBookingVersion.execute(id)))) return null;
+
+        return withETag(getBooking.execute(id));
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Booking> updateBooking(
-            @PathVariable final String id, @Valid @RequestBody final UpdateBookingRequest request) {
-        final Booking booking = updateBooking.execute(new UpdateBookingCommand(
-                id, request.startDate(), request.endDate(), request.guest(), request.numberGuest()));
-        return ResponseEntity.ok(booking);
+            @PathVariable final String id,
+            @Valid @RequestBody final UpdateBookingRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
+        final Booking booking = admissionControl.admit(
+                getBookingPropertyId.execute(id),
+                () -> updateBooking.execute(new UpdateBookingCommand(
+                        id,
+                        request.startDate(),
+                        request.endDate(),
+                        request.guest(),
+                        request.numberGuest(),
+                        VersionETag.parseIfMatch(ifMatch))));
+        return withETag(booking);
+    }
+
+    private ResponseEntity<Booking> withETag(final Booking booking) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (booking.getVersion() != null) response.eTag(VersionETag.of(booking.getVersion()));
+        return response.body(booking);
     }
 }
@@ -1,5 +1,7 @@
 package com.hostfully.app.booking.domain;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,4 +16,20 @@ public class Booking {
     private String guestName;
     private Integer numberGuest;
     private String status;
+
+    // Optimistic locking version, exposed through the ETag header instead of the body
+    @JsonIgnore
+    private Long version;
+
+    @JsonCreator
+    public Booking(
+            String id,
+            String propertyId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String guestName,
+            Integer numberGuest,
+            String status) {
+        this(id, propertyId, startDate, endDate, guestName, numberGuest, status, null);
+    }
 }
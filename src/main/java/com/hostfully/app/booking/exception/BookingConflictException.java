@@ -0,0 +1,14 @@
+package com.hostfully.app.booking.exception;
+
+import com.hostfully.app.shared.exception.RetryableConflictException;
+
+public class BookingConflictException extends RetryableConflictException {
+    public BookingConflictException(String msg) {
+        super(msg);
+    }
+
+    @Override
+    public String getTitle() {
+        return "Booking was modified concurrently";
+    }
+}
@@ -1,10 +1,13 @@
 package com.hostfully.app.booking.exception;
 
-public class BookingNotFoundException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class BookingNotFoundException extends DomainException {
     public BookingNotFoundException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Booking not found";
     }
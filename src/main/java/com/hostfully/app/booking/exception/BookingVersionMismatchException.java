@@ -0,0 +1,14 @@
+package com.hostfully.app.booking.exception;
+
+import com.hostfully.app.shared.exception.DomainException;
+
+public class BookingVersionMismatchException extends DomainException {
+    public BookingVersionMismatchException(String msg) {
+        super(msg);
+    }
+
+    @Override
+    public String getTitle() {
+        return "Booking was modified";
+    }
+}
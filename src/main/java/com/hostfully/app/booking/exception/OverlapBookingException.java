@@ -1,11 +1,14 @@
 package com.hostfully.app.booking.exception;
 
-public class OverlapBookingException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class OverlapBookingException extends DomainException {
 
     public OverlapBookingException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Booking already scheduled for this property";
     }
@@ -1,10 +1,13 @@
 package com.hostfully.app.booking.exception;
 
-public class RebookNotAllowedException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class RebookNotAllowedException extends DomainException {
     public RebookNotAllowedException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Rebooking not allowed for this reservation";
     }
@@ -1,10 +1,13 @@
 package com.hostfully.app.booking.exception;
 
-public class UpdateNotAllowedException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class UpdateNotAllowedException extends DomainException {
     public UpdateNotAllowedException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Updated not allowed";
     }
@@ -1,13 +1,20 @@
 package com.hostfully.app.booking.usecase;
 
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingConflictException;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
 import com.hostfully.app.infra.mapper.BookingMapper;
 import com.hostfully.app.infra.repository.BookingRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import com.hostfully.app.shared.retry.RetryOnConflict;
 import jakarta.transaction.Transactional;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,7 +32,11 @@ public class CancelBooking {
 
     private final IdempotencyService idempotencyService;
     private final BookingRepository bookingRepository;
+    private final BookingCache bookingCache;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
+    @RetryOnConflict
     @Transactional
     public Booking execute(final String id, final UUID idempotencyKey) {
         final Optional<Booking> result = idempotencyService.getResponse(idempotencyKey, Booking.class);
@@ -34,11 +45,14 @@ public class CancelBooking {
         try {
             BookingEntity booking = getBooking(id);
 
-            if (!booking.getStatus().isCancelled()) {
-                bookingRepository.updateStatus(BookingStatus.CANCELLED, id);
-            }
+            final boolean cancelled = !booking.getStatus().isCancelled();
+            if (cancelled && bookingRepository.updateStatus(BookingStatus.CANCELLED, id, booking.getVersion()) == 0)
+                throw new BookingConflictException("The booking was modified by another request.");
 
             final Booking bookingResult = BookingMapper.toDomain(getBooking(id));
+            if (cancelled) outboxService.bookingChanged(EventType.CANCELLED, bookingResult);
+            bookingCache.put(bookingResult);
+            invalidationBus.publish(CacheInvalidation.booking(bookingResult.getId(), bookingResult.getPropertyId()));
             idempotencyService.saveResponse(idempotencyKey, bookingResult);
             return bookingResult;
         } catch (DataAccessException ex) {
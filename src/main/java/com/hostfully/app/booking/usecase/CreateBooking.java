@@ -4,6 +4,8 @@ import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.booking.domain.Booking;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.OverlapBookingException;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
@@ -12,8 +14,12 @@ import com.hostfully.app.infra.mapper.BookingMapper;
 import com.hostfully.app.infra.repository.BookingRepository;
 import com.hostfully.app.infra.repository.PropertyRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.logging.LogContext;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import com.hostfully.app.shared.util.DateRangeValidator;
 import com.hostfully.app.shared.util.NanoIdGenerator;
+import com.hostfully.app.shared.util.OverlapConstraint;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -34,9 +40,12 @@ public class CreateBooking {
     private final AvailabilityService availabilityService;
     private final PropertyRepository propertyRepository;
     private final BookingRepository bookingRepository;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
     @Transactional
     public Booking execute(final CreateBookingCommand command) {
+        LogContext.propertyId(command.property);
         final UUID idempotencyKey = command.idempotencyKey;
         final Optional<Booking> result = idempotencyService.getResponse(idempotencyKey, Booking.class);
         if (result.isPresent()) return result.get();
@@ -64,8 +73,13 @@ public class CreateBooking {
             final Booking bookingResult =
                     BookingMapper.toDomain(bookingRepository.save(BookingMapper.toEntity(booking, propertyEntity)));
             idempotencyService.saveResponse(idempotencyKey, bookingResult);
+            outboxService.bookingChanged(EventType.CREATED, bookingResult);
+            invalidationBus.publish(CacheInvalidation.booking(bookingResult.getId(), bookingResult.getPropertyId()));
             return booking;
         } catch (Exception ex) {
+            if (OverlapConstraint.isViolatedBy(ex))
+                throw new OverlapBookingException("We’re unable to process your booking for this property. "
+                        + "Please refresh the page or try again later.");
             log.error("Failed to create a booking: {}", booking, ex);
             throw new BookingGenericException("Unexpected error while creating booking", ex);
         }
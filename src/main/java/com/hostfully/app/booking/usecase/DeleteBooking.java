@@ -1,7 +1,13 @@
 package com.hostfully.app.booking.usecase;
 
 import com.hostfully.app.block.exceptions.BlockGenericException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,10 +20,21 @@ public class DeleteBooking {
     private static final Logger log = LoggerFactory.getLogger(DeleteBooking.class);
 
     private final BookingRepository bookingRepository;
+    private final BookingCache bookingCache;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
+    @Transactional
     public Boolean execute(final String id) {
         try {
-            return bookingRepository.deleteByExternalId(id) > 0;
+            final String propertyId = bookingRepository.findPropertyIdByExternalId(id).orElse(null);
+            final int deleted = bookingRepository.deleteByExternalId(id);
+            bookingCache.evict(id);
+            if (deleted > 0) {
+                outboxService.deleted(AggregateType.BOOKING, id, propertyId);
+                invalidationBus.publish(CacheInvalidation.booking(id, propertyId));
+            }
+            return deleted > 0;
         } catch (Exception ex) {
             log.error("Failed to delete a block: {}", id);
             throw new BlockGenericException("Unexpected error while removing block", ex);
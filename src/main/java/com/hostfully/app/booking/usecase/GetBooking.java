@@ -3,8 +3,9 @@ package com.hostfully.app.booking.usecase;
 import com.hostfully.app.booking.domain.Booking;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
-import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.cache.BookingCache;
 import com.hostfully.app.infra.mapper.BookingMapper;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
 import com.hostfully.app.infra.repository.BookingRepository;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
@@ -19,14 +20,23 @@ public class GetBooking {
     private static final Logger log = LoggerFactory.getLogger(GetBooking.class);
 
     private BookingRepository bookingRepository;
+    private BookingArchiveRepository bookingArchiveRepository;
+    private BookingCache bookingCache;
 
+    // No transaction here, a cache hit shouldn't take a connection. Misses run the read-only findByExternalId, then
+    // look in the archive
     public Booking execute(final String id) {
+        return bookingCache.get(id, this::load);
+    }
+
+    private Booking load(final String id) {
         try {
-            final BookingEntity bookingEntity = bookingRepository
+            return bookingRepository
                     .findByExternalId(id)
+                    .map(BookingMapper::toDomain)
+                    .or(() -> bookingArchiveRepository.findByExternalId(id).map(BookingMapper::toDomain))
                     .orElseThrow(() -> new BookingNotFoundException("The requested booking could not be found. "
                             + "Please verify the booking ID and try again."));
-            return BookingMapper.toDomain(bookingEntity);
         } catch (DataAccessException ex) {
             log.error("Failed to retrieve a booking: {}", id, ex);
             throw new BookingGenericException("Unexpected error while retrieving booking", ex);
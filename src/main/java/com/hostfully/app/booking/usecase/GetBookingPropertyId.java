@@ -0,0 +1,42 @@
+package com.hostfully.app.booking.usecase;
+
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingGenericException;
+import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.repository.BookingRepository;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+// Property of a booking, so the writes addressed by booking id can go through the per-property admission control.
+// A booking never moves to another property, so a cached booking answers without a transaction or a connection. A
+// cache miss reads the primary (a replica may not have the booking yet right after it was created), and that query
+// runs before admission: a request shed on a cache miss still costs one connection and one statement
+@Service
+@AllArgsConstructor
+public class GetBookingPropertyId {
+
+    private static final Logger log = LoggerFactory.getLogger(GetBookingPropertyId.class);
+
+    private final BookingRepository bookingRepository;
+    private final BookingCache bookingCache;
+
+    public String execute(final String id) {
+        final Optional<Booking> cached = bookingCache.getIfPresent(id);
+        if (cached.isPresent()) return cached.get().getPropertyId();
+
+        try {
+            return bookingRepository
+                    .findPropertyIdByExternalId(id)
+                    .orElseThrow(() -> new BookingNotFoundException("The requested booking could not be found. "
+                            + "Please verify the booking ID and try again."));
+        } catch (DataAccessException ex) {
+            log.error("Failed to retrieve the property of a booking: {}", id, ex);
+            throw new BookingGenericException("Unexpected error while retrieving booking", ex);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.hostfully.app.booking.usecase;
+
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingGenericException;
+import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+// Version-only projection, enough to answer conditional requests without loading the booking and its property
+@Service
+@AllArgsConstructor
+public class GetBookingVersion {
+
+    private static final Logger log = LoggerFactory.getLogger(GetBookingVersion.class);
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository bookingArchiveRepository;
+    private final BookingCache bookingCache;
+
+    // No transaction here, a cached booking answers without a connection. Misses run the read-only version queries,
+    // each on its own like GetBooking's
+    public Long execute(final String id) {
+        final Long cached = bookingCache.getIfPresent(id).map(Booking::getVersion).orElse(null);
+        if (cached != null) return cached;
+
+        try {
+            return bookingRepository
+                    .findVersionByExternalId(id)
+                    .or(() -> bookingArchiveRepository.findVersionByExternalId(id))
+                    .orElseThrow(() -> new BookingNotFoundException("The requested booking could not be found. "
+                            + "Please verify the booking ID and try again."));
+        } catch (DataAccessException ex) {
+            log.error("Failed to retrieve a booking version: {}", id, ex);
+            throw new BookingGenericException("Unexpected error while retrieving booking", ex);
+        }
+    }
+}
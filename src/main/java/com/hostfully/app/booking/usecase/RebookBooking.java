@@ -2,16 +2,25 @@ package com.hostfully.app.booking.usecase;
 
 import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingConflictException;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
 import com.hostfully.app.booking.exception.OverlapBookingException;
 import com.hostfully.app.booking.exception.RebookNotAllowedException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.mapper.BookingMapper;
 import com.hostfully.app.infra.repository.BookingRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.logging.LogContext;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import com.hostfully.app.shared.retry.RetryOnConflict;
 import com.hostfully.app.shared.util.DateRangeValidator;
+import com.hostfully.app.shared.util.OverlapConstraint;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -31,7 +40,11 @@ public class RebookBooking {
     private final IdempotencyService idempotencyService;
     private final AvailabilityService availabilityService;
     private final BookingRepository bookingRepository;
+    private final BookingCache bookingCache;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
+    @RetryOnConflict
     @Transactional
     public Booking execute(final RebookCommand command) {
         final UUID idempotencyKey = command.idempotencyKey;
@@ -41,6 +54,7 @@ public class RebookBooking {
         try {
             final BookingEntity bookingEntity = getBooking(command.id);
             final Booking booking = buildDomain(command, bookingEntity);
+            LogContext.propertyId(booking.getPropertyId());
 
             if (!canRebook(booking.getStatus()))
                 throw new RebookNotAllowedException("Booking cannot be rebooked unless it is cancelled.");
@@ -54,16 +68,24 @@ public class RebookBooking {
                 throw new OverlapBookingException("We’re unable to process your booking for this property. "
                         + "Please refresh the page or try again later.");
 
-            bookingRepository.updateStatusAndTimeframe(
+            final int updated = bookingRepository.updateStatusAndTimeframe(
                     BookingEntity.BookingStatus.CONFIRMED,
                     booking.getStartDate(),
                     booking.getEndDate(),
-                    booking.getId());
+                    booking.getId(),
+                    bookingEntity.getVersion());
+            if (updated == 0) throw new BookingConflictException("The booking was modified by another request.");
 
             final Booking bookingResult = BookingMapper.toDomain(getBooking(booking.getId()));
+            outboxService.bookingChanged(EventType.REBOOKED, bookingResult);
+            bookingCache.put(bookingResult);
+            invalidationBus.publish(CacheInvalidation.booking(bookingResult.getId(), bookingResult.getPropertyId()));
             idempotencyService.saveResponse(idempotencyKey, bookingResult);
             return bookingResult;
         } catch (DataAccessException ex) {
+            if (OverlapConstraint.isViolatedBy(ex))
+                throw new OverlapBookingException("We’re unable to process your booking for this property. "
+                        + "Please refresh the page or try again later.");
             log.error("Failed to rebook a booking: {}", command.id, ex);
             throw new BookingGenericException("Unexpected error while rebooking booking", ex);
         }
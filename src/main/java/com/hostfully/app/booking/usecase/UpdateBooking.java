@@ -2,17 +2,28 @@ package com.hostfully.app.booking.usecase;
 
 import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingConflictException;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.booking.exception.BookingVersionMismatchException;
 import com.hostfully.app.booking.exception.OverlapBookingException;
 import com.hostfully.app.booking.exception.UpdateNotAllowedException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.mapper.BookingMapper;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.shared.logging.LogContext;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import com.hostfully.app.shared.retry.RetryOnConflict;
 import com.hostfully.app.shared.util.DateRangeValidator;
+import com.hostfully.app.shared.util.OverlapConstraint;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,15 +38,24 @@ public class UpdateBooking {
 
     private final BookingRepository bookingRepository;
     private final AvailabilityService availabilityService;
+    private final BookingCache bookingCache;
+    private final InvalidationBus invalidationBus;
+    private final OutboxService outboxService;
 
+    @RetryOnConflict
     @Transactional
     public Booking execute(final UpdateBookingCommand command) {
         final BookingEntity entity = getBooking(command.id);
 
+        if (command.expectedVersions != null && !command.expectedVersions.contains(entity.getVersion()))
+            throw new BookingVersionMismatchException(
+                    "The booking was modified by another request. Please reload it and try again.");
+
         if (!canUpdate(entity.getStatus()))
             throw new UpdateNotAllowedException("Booking updates are allowed only when the booking is active");
 
         final Booking booking = buildDomain(entity, command);
+        LogContext.propertyId(booking.getPropertyId());
 
         if (!DateRangeValidator.validateDateRange(booking.getStartDate(), booking.getEndDate(), false))
             throw new InvalidDateRangeException("The start date and end date must not be the same. "
@@ -47,15 +67,24 @@ public class UpdateBooking {
                     + "Please refresh the page or try again later.");
 
         try {
-            bookingRepository.updateStartDateEndGuestNumber(
+            final int updated = bookingRepository.updateStartDateEndGuestNumber(
                     booking.getStartDate(),
                     booking.getEndDate(),
                     booking.getGuestName(),
                     booking.getNumberGuest(),
-                    booking.getId());
-
-            return BookingMapper.toDomain(getBooking(booking.getId()));
+                    booking.getId(),
+                    entity.getVersion());
+            if (updated == 0) throw new BookingConflictException("The booking was modified by another request.");
+
+            final Booking bookingResult = BookingMapper.toDomain(getBooking(booking.getId()));
+            outboxService.bookingChanged(EventType.UPDATED, bookingResult);
+            bookingCache.put(bookingResult);
+            invalidationBus.publish(CacheInvalidation.booking(bookingResult.getId(), bookingResult.getPropertyId()));
+            return bookingResult;
         } catch (DataAccessException ex) {
+            if (OverlapConstraint.isViolatedBy(ex))
+                throw new OverlapBookingException("We’re unable to process your booking for this property. "
+                        + "Please refresh the page or try again later.");
             log.error("Failed to update a booking: {}", command.id, ex);
             throw new BookingGenericException("Unexpected error while updating booking", ex);
         }
@@ -88,6 +117,12 @@ public class UpdateBooking {
                 .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
     }
 
+    // expectedVersions come from If-Match, null when the client doesn't ask for a conditional update
     public record UpdateBookingCommand(
-            String id, LocalDate startDate, LocalDate endDate, String guestName, int numberGuests) {}
+            String id,
+            LocalDate startDate,
+            LocalDate endDate,
+            String guestName,
+            int numberGuests,
+            Set<Long> expectedVersions) {}
 }
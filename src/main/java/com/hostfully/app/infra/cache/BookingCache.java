@@ -0,0 +1,72 @@
+package com.hostfully.app.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import com.hostfully.app.shared.util.TransactionHooks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Bounded cache of Booking domain objects by external id. Use cases that change a booking replace or evict its entry
+// once their transaction commits, changes made on other nodes arrive through the InvalidationBus.
+@Component
+public class BookingCache {
+
+    static final String NAME = "bookings";
+
+    private final Cache<String, Booking> cache;
+
+    public BookingCache(
+            @Value("${booking.cache.max-size}") final long maxSize,
+            @Value("${booking.cache.ttl}") final Duration ttl,
+            final MeterRegistry meterRegistry,
+            final InvalidationBus invalidationBus) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        // cache.gets (hit/miss), cache.puts, cache.evictions and cache.size, plus the hit ratio as a gauge
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", NAME)
+                .register(meterRegistry);
+
+        // Bookings changed by other nodes
+        invalidationBus.subscribe(Type.BOOKING, invalidation -> cache.invalidate(invalidation.key()));
+    }
+
+    // Loading runs under the entry's lock, an eviction issued meanwhile waits for it and then removes the result
+    public Booking get(final String id, final Function<String, Booking> loader) {
+        return cache.get(id, loader);
+    }
+
+    public Optional<Booking> getIfPresent(final String id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void put(final Booking booking) {
+        TransactionHooks.afterCommit(() -> cache.asMap()
+                .compute(booking.getId(), (id, cached) -> isNewer(cached, booking) ? cached : booking));
+    }
+
+    public void evict(final String id) {
+        TransactionHooks.afterCommit(() -> cache.invalidate(id));
+    }
+
+    // After-commit callbacks of two writes can run out of order, the highest version wins
+    private static boolean isNewer(final Booking cached, final Booking booking) {
+        return cached != null
+                && cached.getVersion() != null
+                && booking.getVersion() != null
+                && cached.getVersion() > booking.getVersion();
+    }
+}
@@ -0,0 +1,19 @@
+package com.hostfully.app.infra.cache;
+
+// A change to a booking or block. propertyId is there for caches and streams keyed by property (availability)
+public record CacheInvalidation(Type type, String key, String propertyId) {
+
+    public static CacheInvalidation booking(final String id, final String propertyId) {
+        return new CacheInvalidation(Type.BOOKING, id, propertyId);
+    }
+
+    public static CacheInvalidation block(final String id, final String propertyId) {
+        return new CacheInvalidation(Type.BLOCK, id, propertyId);
+    }
+
+    public enum Type {
+        BOOKING,
+        BLOCK,
+        PROPERTY
+    }
+}
@@ -0,0 +1,116 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import com.hostfully.app.infra.entity.CacheInvalidationEntity;
+import com.hostfully.app.infra.repository.CacheInvalidationRepository;
+import com.hostfully.app.shared.util.TransactionHooks;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Change-log table shared by every node, no outside service needed. Invalidations are written in the publisher's
+// transaction, so other nodes only see them once it commits, and each node polls for the rows written by the others.
+// Its own changes are handed to the subscribeAll listeners right after commit.
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "db", matchIfMissing = true)
+public class DbInvalidationBus implements InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(DbInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Type, List<Consumer<CacheInvalidation>>> remoteListeners = new ConcurrentHashMap<>();
+    private final Map<Type, List<Consumer<CacheInvalidation>>> allListeners = new ConcurrentHashMap<>();
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final Duration lookback;
+    private final Duration retention;
+
+    // Ids delivered by the previous poll, the lookback window is read again on every poll
+    private Set<Long> delivered = Set.of();
+
+    public DbInvalidationBus(
+            final CacheInvalidationRepository cacheInvalidationRepository,
+            @Value("${cache.invalidation.lookback}") final Duration lookback,
+            @Value("${cache.invalidation.retention}") final Duration retention) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.lookback = lookback;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        cacheInvalidationRepository.save(new CacheInvalidationEntity(
+                nodeId, invalidation.type(), invalidation.key(), invalidation.propertyId(), Instant.now()));
+        TransactionHooks.afterCommit(() -> dispatch(allListeners, invalidation));
+    }
+
+    @Override
+    public void subscribe(final Type type, final Consumer<CacheInvalidation> listener) {
+        remoteListeners.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void subscribeAll(final Type type, final Consumer<CacheInvalidation> listener) {
+        allListeners.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // Rows are read by creation time rather than by id: a transaction that started earlier can commit after a
+    // higher id is already visible. The lookback covers the longest transaction plus the clock skew between nodes.
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms}")
+    public void poll() {
+        final List<CacheInvalidationEntity> changes;
+        try {
+            changes = cacheInvalidationRepository.findByCreatedAtAfterAndNodeIdNotOrderById(
+                    Instant.now().minus(lookback), nodeId);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to poll cache invalidations: {}", ex.getMessage());
+            return;
+        }
+
+        final Set<Long> seen = new HashSet<>(changes.size());
+        for (CacheInvalidationEntity change : changes) {
+            seen.add(change.getId());
+            if (delivered.contains(change.getId())) continue;
+
+            final CacheInvalidation invalidation =
+                    new CacheInvalidation(change.getEntityType(), change.getEntityKey(), change.getPropertyId());
+            dispatch(remoteListeners, invalidation);
+            dispatch(allListeners, invalidation);
+        }
+        delivered = seen;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.purge-interval-ms}")
+    public void purge() {
+        try {
+            cacheInvalidationRepository.deleteByCreatedAtBefore(Instant.now().minus(retention));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to purge cache invalidations: {}", ex.getMessage());
+        }
+    }
+
+    private static void dispatch(
+            final Map<Type, List<Consumer<CacheInvalidation>>> listeners, final CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners.getOrDefault(invalidation.type(), List.of())) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation listener failed for {}", invalidation, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import com.hostfully.app.shared.util.TransactionHooks;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// Single JVM bus, for tests: listeners are called after commit on the publishing thread, including the listeners of
+// the node that published
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "in-memory")
+public class InMemoryInvalidationBus implements InvalidationBus {
+
+    private final Map<Type, List<Consumer<CacheInvalidation>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(final CacheInvalidation invalidation) {
+        TransactionHooks.afterCommit(() -> listeners
+                .getOrDefault(invalidation.type(), List.of())
+                .forEach(listener -> listener.accept(invalidation)));
+    }
+
+    @Override
+    public void subscribe(final Type type, final Consumer<CacheInvalidation> listener) {
+        listeners.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void subscribeAll(final Type type, final Consumer<CacheInvalidation> listener) {
+        subscribe(type, listener);
+    }
+}
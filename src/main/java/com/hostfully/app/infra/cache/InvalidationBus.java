@@ -0,0 +1,17 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import java.util.function.Consumer;
+
+// Keeps the in-process caches of several nodes coherent. Use cases publish what they changed, listeners hear about it
+// once the change is committed.
+public interface InvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    // Changes made by other nodes, this node's caches are already up to date with its own changes
+    void subscribe(Type type, Consumer<CacheInvalidation> listener);
+
+    // Changes made by any node, this one included
+    void subscribeAll(Type type, Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,69 @@
+package com.hostfully.app.infra.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hostfully.app.report.domain.OccupancyReport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Occupancy reports by period and portfolio. Entries are never evicted on writes, a report is as fresh as its ttl.
+// Reports range from one property to the whole portfolio, so the cache is bounded by their rows rather than their
+// count: a report weighs its number of properties, at least 1 (OccupancyAggregatorBenchmark prints the heap per row).
+@Component
+public class OccupancyReportCache {
+
+    static final String NAME = "occupancy-reports";
+
+    private final AsyncCache<Key, OccupancyReport> cache;
+
+    public OccupancyReportCache(
+            @Value("${report.occupancy.cache.max-rows}") final long maxRows,
+            @Value("${report.occupancy.cache.ttl}") final Duration ttl,
+            final MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((Key key, OccupancyReport report) -> Math.max(1, report.properties().size()))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), NAME);
+    }
+
+    // Concurrent requests for the same report wait for the one generating it. The cache only maps the key to a future,
+    // the aggregation runs on the caller's thread outside Caffeine's compute, so it doesn't hold the lock of the
+    // key's bin (and of the other keys sharing it) meanwhile. A failed report is removed and generated again
+    public OccupancyReport get(final Key key, final Function<Key, OccupancyReport> generator) {
+        final CompletableFuture<OccupancyReport> created = new CompletableFuture<>();
+        final CompletableFuture<OccupancyReport> report = cache.get(key, (ignored, executor) -> created);
+        if (report != created) return await(report);
+
+        try {
+            created.complete(generator.apply(key));
+        } catch (Throwable ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+        return created.join();
+    }
+
+    private static OccupancyReport await(final CompletableFuture<OccupancyReport> report) {
+        try {
+            return report.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw ex;
+        }
+    }
+
+    // An empty portfolio stands for every property, the ids are sorted so the same portfolio maps to one entry
+    public record Key(LocalDate from, LocalDate to, List<String> portfolio) {}
+}
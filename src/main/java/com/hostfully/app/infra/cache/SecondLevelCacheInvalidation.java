@@ -0,0 +1,33 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import com.hostfully.app.infra.entity.BlockEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+// The Hibernate second-level cache is local to each node. Its own writes keep it coherent: entity saves update the
+// entries, bulk HQL statements (BlockRepository.updateByExternalId and deleteByExternalId) evict the block and
+// property-blocks regions, and hibernate.cache.auto_evict_collection_cache drops the blocks of a property when a block
+// is inserted. Blocks changed by other nodes evict the same regions here; a block can move between properties, so
+// the whole regions go rather than the entries of the property named by the change. Properties are never updated.
+@Component
+public class SecondLevelCacheInvalidation {
+
+    static final String PROPERTY_BLOCKS = PropertyEntity.class.getName() + ".blocks";
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidation(
+            final EntityManagerFactory entityManagerFactory, final InvalidationBus invalidationBus) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        invalidationBus.subscribe(Type.BLOCK, this::evictBlocks);
+    }
+
+    void evictBlocks(final CacheInvalidation invalidation) {
+        cache.evictCollectionData(PROPERTY_BLOCKS);
+        cache.evictEntityData(BlockEntity.class);
+    }
+}
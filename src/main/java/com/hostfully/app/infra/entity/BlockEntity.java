@@ -5,14 +5,20 @@ import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "properties")
+@Table(name = "blocks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BlockEntity.REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 public class BlockEntity extends Auditable {
 
+    public static final String REGION = "blocks";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -25,7 +31,11 @@ public class BlockEntity extends Auditable {
     private PropertyEntity property;
 
     private String reason;
+
+    @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
     public BlockEntity(
@@ -0,0 +1,57 @@
+package com.hostfully.app.infra.entity;
+
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Bookings moved out of the hot table by the BookingArchiver, rows are only inserted in bulk and read
+@Entity
+@Table(name = "bookings_archive")
+@Getter
+@NoArgsConstructor
+public class BookingArchiveEntity {
+
+    // The id the booking had in the hot table
+    @Id
+    private Long id;
+
+    @Column(name = "external_id")
+    private String externalId;
+
+    @Column(name = "property_id")
+    private Long propertyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "property_id", insertable = false, updatable = false)
+    private PropertyEntity property;
+
+    @Column(name = "guest_name")
+    private String guest;
+
+    @Column(name = "number_guest")
+    private Integer numberGuest;
+
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+}
@@ -39,7 +39,11 @@ public class BookingEntity extends Auditable {
     @Column(nullable = false)
     private BookingStatus status;
 
+    // DATE columns, compared as dates in the overlap checks
+    @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
     private LocalDate endDate;
 
     public BookingEntity(
@@ -0,0 +1,45 @@
+package com.hostfully.app.infra.entity;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "cache_invalidations")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CacheInvalidationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "node_id")
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type")
+    private Type entityType;
+
+    @Column(name = "entity_key")
+    private String entityKey;
+
+    @Column(name = "property_id")
+    private String propertyId;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    public CacheInvalidationEntity(
+            String nodeId, Type entityType, String entityKey, String propertyId, Instant createdAt) {
+        this.nodeId = nodeId;
+        this.entityType = entityType;
+        this.entityKey = entityKey;
+        this.propertyId = propertyId;
+        this.createdAt = createdAt;
+    }
+}
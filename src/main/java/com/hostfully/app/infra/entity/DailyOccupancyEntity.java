@@ -0,0 +1,58 @@
+package com.hostfully.app.infra.entity;
+
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+// One day of a property held by a booking or block. Rows are only inserted and deleted, never updated, so they are
+// always new: persisting skips the select a merge would issue for every row
+@Entity
+@Table(name = "property_daily_occupancy")
+@IdClass(DailyOccupancyEntity.Key.class)
+@Getter
+@NoArgsConstructor
+public class DailyOccupancyEntity implements Persistable<DailyOccupancyEntity.Key> {
+
+    @Id
+    @Column(name = "property_id")
+    private String propertyId;
+
+    @Id
+    @Column(name = "occupied_on")
+    private LocalDate occupiedOn;
+
+    @Id
+    @Column(name = "source_id")
+    private String sourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source_type")
+    private AggregateType sourceType;
+
+    public DailyOccupancyEntity(
+            final String propertyId,
+            final LocalDate occupiedOn,
+            final AggregateType sourceType,
+            final String sourceId) {
+        this.propertyId = propertyId;
+        this.occupiedOn = occupiedOn;
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(propertyId, occupiedOn, sourceId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public record Key(String propertyId, LocalDate occupiedOn, String sourceId) implements Serializable {}
+}
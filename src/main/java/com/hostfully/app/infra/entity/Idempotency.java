@@ -5,17 +5,25 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.util.UUID;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
+// Responses are only inserted, once per key, so they are always new: persisting skips the select a merge would issue,
+// and a key inserted twice fails on the primary key instead of being merged
 @Entity
 @Table(name = "idempotencies")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Idempotency extends Auditable {
+public class Idempotency extends Auditable implements Persistable<UUID> {
 
     @Id
     private UUID id;
 
     private String response;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
 }
@@ -0,0 +1,55 @@
+package com.hostfully.app.infra.entity;
+
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type")
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id")
+    private String aggregateId;
+
+    @Column(name = "property_id")
+    private String propertyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type")
+    private EventType eventType;
+
+    private String payload;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    public OutboxEventEntity(
+            AggregateType aggregateType,
+            String aggregateId,
+            String propertyId,
+            EventType eventType,
+            String payload,
+            Instant createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.propertyId = propertyId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hostfully.app.infra.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.*;
+
+@Entity
+@Table(name = "outbox_offsets")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxOffsetEntity {
+
+    @Id
+    private String consumer;
+
+    @Column(name = "last_event_id")
+    private Long lastEventId;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -1,27 +1,48 @@
 package com.hostfully.app.infra.entity;
 
 import jakarta.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+// Read on every booking and block write, written once. Cached in the second-level cache by id and by external id, along
+// with the ids of its blocks (batched stay checks walk them; the write-path availability check queries the blocks, the
+// cache may trail blocks changed on other nodes)
 @Entity
 @Table(name = "properties")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PropertyEntity.REGION)
+@NaturalIdCache(region = PropertyEntity.EXTERNAL_ID_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 public class PropertyEntity extends Auditable {
 
+    public static final String REGION = "properties";
+    public static final String EXTERNAL_ID_REGION = "property-external-ids";
+    public static final String BLOCKS_REGION = "property-blocks";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(name = "external_id")
     private String externalId;
 
     private String description;
     private String alias;
 
+    @OneToMany(mappedBy = "property")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BLOCKS_REGION)
+    private List<BlockEntity> blocks = new ArrayList<>();
+
     public PropertyEntity(final String externalId, final String description, final String alias) {
         this.externalId = externalId;
         this.description = description;
@@ -1,10 +1,13 @@
 package com.hostfully.app.infra.exception;
 
-public class InvalidDateRangeException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class InvalidDateRangeException extends DomainException {
     public InvalidDateRangeException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Invalid Temporal Range";
     }
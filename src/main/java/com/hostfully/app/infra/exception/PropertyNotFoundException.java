@@ -1,10 +1,13 @@
 package com.hostfully.app.infra.exception;
 
-public class PropertyNotFoundException extends RuntimeException {
+import com.hostfully.app.shared.exception.DomainException;
+
+public class PropertyNotFoundException extends DomainException {
     public PropertyNotFoundException(String msg) {
         super(msg);
     }
 
+    @Override
     public String getTitle() {
         return "Property not found";
     }
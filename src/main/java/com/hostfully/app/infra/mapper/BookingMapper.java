@@ -1,6 +1,7 @@
 package com.hostfully.app.infra.mapper;
 
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.infra.entity.BookingArchiveEntity;
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
 import com.hostfully.app.infra.entity.PropertyEntity;
@@ -27,6 +28,19 @@ public abstract class BookingMapper {
                 bookingEntity.getEndDate(),
                 bookingEntity.getGuest(),
                 bookingEntity.getNumberGuest(),
-                bookingEntity.getStatus().name());
+                bookingEntity.getStatus().name(),
+                bookingEntity.getVersion());
+    }
+
+    public static Booking toDomain(final BookingArchiveEntity bookingArchiveEntity) {
+        return new Booking(
+                bookingArchiveEntity.getExternalId(),
+                bookingArchiveEntity.getProperty().getExternalId(),
+                bookingArchiveEntity.getStartDate(),
+                bookingArchiveEntity.getEndDate(),
+                bookingArchiveEntity.getGuest(),
+                bookingArchiveEntity.getNumberGuest(),
+                bookingArchiveEntity.getStatus().name(),
+                bookingArchiveEntity.getVersion());
     }
 }
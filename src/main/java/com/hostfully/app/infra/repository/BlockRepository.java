@@ -4,6 +4,8 @@ import com.hostfully.app.infra.entity.BlockEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -33,6 +35,17 @@ public interface BlockRepository extends JpaRepository<BlockEntity, Long> {
 
     boolean existsByExternalId(String externalId);
 
+    @Query("SELECT b.property.externalId FROM BlockEntity b WHERE b.externalId = :externalId")
+    Optional<String> findPropertyIdByExternalId(String externalId);
+
     @Query("SELECT b FROM BlockEntity b LEFT JOIN FETCH b.property where b.externalId = :externalId")
     Optional<BlockEntity> findByExternalId(String externalId);
+
+    @Query("SELECT b.externalId AS id, b.property.externalId AS propertyId, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BlockEntity b")
+    List<OccupancyView> findOccupancy();
+
+    @Query("SELECT b.externalId AS id, b.property.externalId AS propertyId, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BlockEntity b WHERE b.property.externalId IN :propertyIds")
+    List<OccupancyView> findOccupancy(Collection<String> propertyIds);
 }
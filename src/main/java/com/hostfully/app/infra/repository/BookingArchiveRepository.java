@@ -0,0 +1,50 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.BookingArchiveEntity;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface BookingArchiveRepository extends JpaRepository<BookingArchiveEntity, Long> {
+
+    // Copies the bookings as they are, the caller deletes them from the hot table in the same transaction
+    @Modifying
+    @Query("INSERT INTO BookingArchiveEntity (id, externalId, propertyId, guest, numberGuest, version, status, "
+            + "startDate, endDate, createdAt, updatedAt, archivedAt) "
+            + "SELECT b.id, b.externalId, b.property.id, b.guest, b.numberGuest, b.version, b.status, "
+            + "b.startDate, b.endDate, b.createdAt, b.updatedAt, :archivedAt "
+            + "FROM BookingEntity b WHERE b.id IN :ids")
+    int archive(Collection<Long> ids, Instant archivedAt);
+
+    // GetBooking falls back to it on a miss in the hot table, routed to the replica like findByExternalId
+    @Transactional(readOnly = true)
+    @Query("SELECT b FROM BookingArchiveEntity b LEFT JOIN FETCH b.property where b.externalId = :externalId")
+    Optional<BookingArchiveEntity> findByExternalId(String externalId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT b.version FROM BookingArchiveEntity b WHERE b.externalId = :externalId")
+    Optional<Long> findVersionByExternalId(String externalId);
+
+    @Query("SELECT b.externalId AS id, b.property.externalId AS propertyId, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BookingArchiveEntity b "
+            + "WHERE b.status = 'CONFIRMED' AND b.property.externalId IN :propertyIds")
+    List<OccupancyView> findConfirmedOccupancy(Collection<String> propertyIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.property.externalId AS propertyId, b.status AS status, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BookingArchiveEntity b "
+            + "WHERE b.property.externalId IN :propertyIds AND b.startDate BETWEEN :from AND :to")
+    Stream<BookingStayView> streamStays(Collection<String> propertyIds, LocalDate from, LocalDate to);
+}
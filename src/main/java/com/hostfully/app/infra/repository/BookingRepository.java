@@ -2,13 +2,21 @@ package com.hostfully.app.infra.repository;
 
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<BookingEntity, Long> {
@@ -26,24 +34,79 @@ public interface BookingRepository extends JpaRepository<BookingEntity, Long> {
     @Query("DELETE FROM BookingEntity b WHERE b.externalId = :externalId")
     int deleteByExternalId(String externalId);
 
+    // The bulk updates below bypass @Version and auditing, so they check the version and set updated_at themselves:
+    // 0 rows updated means the booking changed since it was read (or is gone)
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
-    @Query("UPDATE BookingEntity b SET b.status = :status WHERE b.externalId = :externalId")
-    int updateStatus(BookingStatus status, String externalId);
+    @Query("UPDATE BookingEntity b SET b.status = :status, b.version = b.version + 1, "
+            + "b.updatedAt = CURRENT_TIMESTAMP WHERE b.externalId = :externalId AND b.version = :version")
+    int updateStatus(BookingStatus status, String externalId, Long version);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
     @Query("UPDATE BookingEntity b SET b.status = :status, b.startDate = :startDate, "
-            + "b.endDate = :endDate WHERE b.externalId = :externalId")
-    int updateStatusAndTimeframe(BookingStatus status, LocalDate startDate, LocalDate endDate, String externalId);
+            + "b.endDate = :endDate, b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE b.externalId = :externalId AND b.version = :version")
+    int updateStatusAndTimeframe(
+            BookingStatus status, LocalDate startDate, LocalDate endDate, String externalId, Long version);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Transactional
     @Query("UPDATE BookingEntity b SET b.startDate = :startDate, b.endDate = :endDate, b.guest = :guest, "
-            + "b.numberGuest = :numberGuest WHERE b.externalId = :externalId")
+            + "b.numberGuest = :numberGuest, b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE b.externalId = :externalId AND b.version = :version")
     int updateStartDateEndGuestNumber(
-            LocalDate startDate, LocalDate endDate, String guest, int numberGuest, String externalId);
+            LocalDate startDate, LocalDate endDate, String guest, int numberGuest, String externalId, Long version);
 
+    // Read-only when called on its own (GetBooking cache misses): routed to the replica when one is configured.
+    // Inside the write use cases it joins their transaction
+    @Transactional(readOnly = true)
     @Query("SELECT b FROM BookingEntity b LEFT JOIN FETCH b.property where b.externalId = :externalId")
     Optional<BookingEntity> findByExternalId(String externalId);
+
+    // Read-write, so on its own (GetBookingPropertyId cache misses) it reads the primary: the booking may not be on the
+    // replica yet right after it was created. Inside the write use cases it joins their transaction
+    @Transactional
+    @Query("SELECT b.property.externalId FROM BookingEntity b WHERE b.externalId = :externalId")
+    Optional<String> findPropertyIdByExternalId(String externalId);
+
+    // Read-only on its own (GetBookingVersion cache misses), routed to the replica like findByExternalId
+    @Transactional(readOnly = true)
+    @Query("SELECT b.version FROM BookingEntity b WHERE b.externalId = :externalId")
+    Optional<Long> findVersionByExternalId(String externalId);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT b.externalId AS id, b.property.externalId AS propertyId, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BookingEntity b WHERE b.status = 'CONFIRMED'")
+    List<OccupancyView> findConfirmedOccupancy();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT b.externalId AS id, b.property.externalId AS propertyId, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BookingEntity b "
+            + "WHERE b.status = 'CONFIRMED' AND b.property.externalId IN :propertyIds")
+    List<OccupancyView> findConfirmedOccupancy(Collection<String> propertyIds);
+
+    // Confirmed bookings of a property overlapping [from, to], the span of a batch of availability checks
+    @Query("SELECT b.externalId AS id, b.property.externalId AS propertyId, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BookingEntity b WHERE b.property.externalId = :propertyId "
+            + "AND b.status = 'CONFIRMED' AND b.startDate <= :to AND b.endDate >= :from")
+    List<OccupancyView> findConfirmedOccupancy(String propertyId, LocalDate from, LocalDate to);
+
+    // Bookings arriving within [from, to], confirmed or cancelled, read as a forward-only stream
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.property.externalId AS propertyId, b.status AS status, b.startDate AS startDate, "
+            + "b.endDate AS endDate FROM BookingEntity b "
+            + "WHERE b.property.externalId IN :propertyIds AND b.startDate BETWEEN :from AND :to")
+    Stream<BookingStayView> streamStays(Collection<String> propertyIds, LocalDate from, LocalDate to);
+
+    // Bookings ended before the horizon, or cancelled (last changed) before the cancellation horizon
+    @Query("SELECT b.id FROM BookingEntity b WHERE b.endDate < :endedBefore "
+            + "OR (b.status = 'CANCELLED' AND b.updatedAt < :cancelledBefore) ORDER BY b.id")
+    List<Long> findArchivable(LocalDate endedBefore, Instant cancelledBefore, Limit limit);
+
+    // Only rows still at the version that was archived, a booking changed since it was copied stays
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM BookingEntity b WHERE b.id IN :ids "
+            + "AND b.version = (SELECT a.version FROM BookingArchiveEntity a WHERE a.id = b.id)")
+    int deleteArchived(Collection<Long> ids);
 }
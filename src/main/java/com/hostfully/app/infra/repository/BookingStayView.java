@@ -0,0 +1,15 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import java.time.LocalDate;
+
+// Stay of a booking, streamed in bulk by the occupancy report
+public interface BookingStayView {
+    String getPropertyId();
+
+    BookingStatus getStatus();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
@@ -0,0 +1,21 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.CacheInvalidationEntity;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidationEntity, Long> {
+
+    List<CacheInvalidationEntity> findByCreatedAtAfterAndNodeIdNotOrderById(Instant createdAt, String nodeId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheInvalidationEntity c WHERE c.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(Instant createdAt);
+}
@@ -0,0 +1,40 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.DailyOccupancyEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyOccupancyRepository extends JpaRepository<DailyOccupancyEntity, DailyOccupancyEntity.Key> {
+
+    // Flushed and cleared around the delete, the same rows are usually persisted again right after
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyOccupancyEntity o WHERE o.sourceId = :sourceId")
+    int deleteBySourceId(String sourceId);
+
+    @Modifying
+    @Query("DELETE FROM DailyOccupancyEntity o WHERE o.propertyId IN :propertyIds")
+    int deleteByPropertyIds(Collection<String> propertyIds);
+
+    // Bookings never overlap, blocks may overlap each other: their days are counted once
+    @Query("SELECT o.propertyId AS propertyId,"
+            + "   SUM(CASE WHEN o.sourceType = 'BOOKING' THEN 1 ELSE 0 END) AS bookedDays,"
+            + "   COUNT(DISTINCT CASE WHEN o.sourceType = 'BLOCK' THEN o.occupiedOn END) AS blockedDays"
+            + " FROM DailyOccupancyEntity o"
+            + " WHERE o.occupiedOn BETWEEN :from AND :to"
+            + " GROUP BY o.propertyId")
+    List<DailyOccupancySummary> summarize(LocalDate from, LocalDate to);
+
+    @Query("SELECT o.propertyId AS propertyId,"
+            + "   SUM(CASE WHEN o.sourceType = 'BOOKING' THEN 1 ELSE 0 END) AS bookedDays,"
+            + "   COUNT(DISTINCT CASE WHEN o.sourceType = 'BLOCK' THEN o.occupiedOn END) AS blockedDays"
+            + " FROM DailyOccupancyEntity o"
+            + " WHERE o.propertyId IN :propertyIds AND o.occupiedOn BETWEEN :from AND :to"
+            + " GROUP BY o.propertyId")
+    List<DailyOccupancySummary> summarize(Collection<String> propertyIds, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,9 @@
+package com.hostfully.app.infra.repository;
+
+public interface DailyOccupancySummary {
+    String getPropertyId();
+
+    Long getBookedDays();
+
+    Long getBlockedDays();
+}
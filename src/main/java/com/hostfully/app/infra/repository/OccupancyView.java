@@ -0,0 +1,14 @@
+package com.hostfully.app.infra.repository;
+
+import java.time.LocalDate;
+
+// Dates a booking or block holds on its property, read in bulk to rebuild the availability index
+public interface OccupancyView {
+    String getId();
+
+    String getPropertyId();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+}
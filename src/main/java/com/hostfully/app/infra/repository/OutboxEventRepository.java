@@ -0,0 +1,25 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    List<OutboxEventEntity> findByIdGreaterThanAndCreatedAtBeforeOrderById(Long id, Instant createdAt, Limit limit);
+
+    Optional<OutboxEventEntity> findTopByCreatedAtBeforeOrderByIdDesc(Instant createdAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.id <= :lastEventId AND e.createdAt < :createdAt")
+    int deleteDeliveredBefore(Long lastEventId, Instant createdAt);
+}
@@ -0,0 +1,17 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.OutboxOffsetEntity;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffsetEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxOffsetEntity o WHERE o.consumer = :consumer")
+    Optional<OutboxOffsetEntity> findForUpdate(String consumer);
+}
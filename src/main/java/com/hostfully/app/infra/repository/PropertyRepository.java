@@ -1,11 +1,14 @@
 package com.hostfully.app.infra.repository;
 
 import com.hostfully.app.infra.entity.PropertyEntity;
-import java.util.Optional;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<PropertyEntity, Long> {
-    Optional<PropertyEntity> findByExternalId(String externalId);
+public interface PropertyRepository extends JpaRepository<PropertyEntity, Long>, PropertyRepositoryCustom {
+
+    @Query("SELECT p.externalId FROM PropertyEntity p ORDER BY p.externalId")
+    List<String> findAllExternalIds();
 }
@@ -0,0 +1,8 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.PropertyEntity;
+import java.util.Optional;
+
+public interface PropertyRepositoryCustom {
+    Optional<PropertyEntity> findByExternalId(String externalId);
+}
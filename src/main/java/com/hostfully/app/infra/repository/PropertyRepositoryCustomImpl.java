@@ -0,0 +1,24 @@
+package com.hostfully.app.infra.repository;
+
+import com.hostfully.app.infra.entity.PropertyEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Optional;
+import org.hibernate.Session;
+
+// Loaded by natural id, so the second-level cache resolves the external id without a query. A JPQL lookup always runs
+// its query, the entity cache only serves loads by primary key.
+public class PropertyRepositoryCustomImpl implements PropertyRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<PropertyEntity> findByExternalId(final String externalId) {
+        if (externalId == null) return Optional.empty();
+        return entityManager
+                .unwrap(Session.class)
+                .bySimpleNaturalId(PropertyEntity.class)
+                .loadOptional(externalId);
+    }
+}
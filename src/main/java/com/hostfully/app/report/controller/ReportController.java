@@ -0,0 +1,25 @@
+package com.hostfully.app.report.controller;
+
+import com.hostfully.app.report.domain.OccupancyReport;
+import com.hostfully.app.report.usecase.GetOccupancyReport;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@AllArgsConstructor
+public class ReportController {
+
+    private final GetOccupancyReport getOccupancyReport;
+
+    // e.g. ?from=2025-01-01&to=2025-12-31, optionally restricted to a portfolio with &properties=PROP-1,PROP-2
+    @GetMapping("/v1/reports/occupancy")
+    public ResponseEntity<OccupancyReport> getOccupancyReport(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(required = false) List<String> properties) {
+        return ResponseEntity.ok(getOccupancyReport.execute(from, to, properties));
+    }
+}
@@ -0,0 +1,7 @@
+package com.hostfully.app.report.domain;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public record OccupancyReport(LocalDate from, LocalDate to, Instant generatedAt, List<PropertyOccupancy> properties) {}
@@ -0,0 +1,11 @@
+package com.hostfully.app.report.domain;
+
+// Nights count the days held on the property within the period, dates being inclusive on both ends. Cancellation rate
+// and average length of stay are over the bookings arriving within the period.
+public record PropertyOccupancy(
+        String propertyId,
+        long bookedNights,
+        long blockedNights,
+        double occupancyRate,
+        double cancellationRate,
+        double averageLengthOfStay) {}
@@ -0,0 +1,209 @@
+package com.hostfully.app.report.projection;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostfully.app.availability.index.Occupancy;
+import com.hostfully.app.infra.entity.DailyOccupancyEntity;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.entity.OutboxOffsetEntity;
+import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.DailyOccupancyRepository;
+import com.hostfully.app.infra.repository.OccupancyView;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.infra.repository.OutboxOffsetRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Keeps property_daily_occupancy, one row per property, day and booking or block holding it, so reports sum indexed
+// day ranges instead of expanding every booking. Fed by the outbox under its own offset: the rows of a batch and the
+// offset move in one transaction, each event is applied exactly once. Applying an event replaces every row of its
+// aggregate, which is what a rebuild racing with newer events relies on.
+@Component
+public class DailyOccupancyProjection {
+
+    static final String CONSUMER = "daily-occupancy";
+
+    private static final Logger log = LoggerFactory.getLogger(DailyOccupancyProjection.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final DailyOccupancyRepository dailyOccupancyRepository;
+    private final PropertyRepository propertyRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository bookingArchiveRepository;
+    private final BlockRepository blockRepository;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int rebuildChunkSize;
+    private final int rebuildParallelism;
+    private final Duration settle;
+
+    public DailyOccupancyProjection(
+            final OutboxEventRepository outboxEventRepository,
+            final OutboxOffsetRepository outboxOffsetRepository,
+            final DailyOccupancyRepository dailyOccupancyRepository,
+            final PropertyRepository propertyRepository,
+            final BookingRepository bookingRepository,
+            final BookingArchiveRepository bookingArchiveRepository,
+            final BlockRepository blockRepository,
+            final ObjectMapper mapper,
+            final PlatformTransactionManager transactionManager,
+            @Value("${report.projection.batch-size}") final int batchSize,
+            @Value("${report.projection.rebuild-chunk-size}") final int rebuildChunkSize,
+            @Value("${report.projection.rebuild-parallelism}") final int rebuildParallelism,
+            @Value("${outbox.relay.settle}") final Duration settle) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxOffsetRepository = outboxOffsetRepository;
+        this.dailyOccupancyRepository = dailyOccupancyRepository;
+        this.propertyRepository = propertyRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingArchiveRepository = bookingArchiveRepository;
+        this.blockRepository = blockRepository;
+        this.mapper = mapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.rebuildParallelism = rebuildParallelism;
+        this.settle = settle;
+    }
+
+    // The first run (no offset yet) builds the projection from the tables
+    @Scheduled(fixedDelayString = "${report.projection.interval-ms}")
+    public void project() {
+        final Integer projected = transactionTemplate.execute(status -> outboxOffsetRepository
+                .findForUpdate(CONSUMER)
+                .map(this::projectBatch)
+                .orElse(null));
+        if (projected == null) rebuild();
+    }
+
+    // Properties are rebuilt in parallel chunks, each in its own transaction. The offset row stays locked until all
+    // of them are done, so no node projects events meanwhile; events committed while the tables are read are projected
+    // again afterwards, which only rewrites the same rows.
+    public void rebuild() {
+        final long started = System.nanoTime();
+        final Long rows = transactionTemplate.execute(status -> {
+            final OutboxOffsetEntity offset = outboxOffsetRepository
+                    .findForUpdate(CONSUMER)
+                    .orElseGet(() -> outboxOffsetRepository.saveAndFlush(
+                            new OutboxOffsetEntity(CONSUMER, 0L, Instant.now())));
+            final long sequence = outboxEventRepository
+                    .findTopByCreatedAtBeforeOrderByIdDesc(Instant.now().minus(settle))
+                    .map(OutboxEventEntity::getId)
+                    .orElse(0L);
+
+            final long rebuilt = rebuildChunks(partition(propertyRepository.findAllExternalIds()));
+            offset.setLastEventId(sequence);
+            offset.setUpdatedAt(Instant.now());
+            return rebuilt;
+        });
+        final long elapsed = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        log.info("Daily occupancy rebuilt ({} rows) in {} ms", rows, elapsed);
+    }
+
+    private int projectBatch(final OutboxOffsetEntity offset) {
+        final List<OutboxEventEntity> batch = outboxEventRepository.findByIdGreaterThanAndCreatedAtBeforeOrderById(
+                offset.getLastEventId(), Instant.now().minus(settle), Limit.of(batchSize));
+        if (batch.isEmpty()) return 0;
+
+        batch.forEach(this::apply);
+
+        // Replacing an aggregate's rows clears the persistence context, the offset is saved back rather than flushed
+        offset.setLastEventId(batch.getLast().getId());
+        offset.setUpdatedAt(Instant.now());
+        outboxOffsetRepository.save(offset);
+        if (log.isDebugEnabled())
+            log.debug("Projected {} outbox events up to {}", batch.size(), offset.getLastEventId());
+        return batch.size();
+    }
+
+    private void apply(final OutboxEventEntity event) {
+        dailyOccupancyRepository.deleteBySourceId(event.getAggregateId());
+        try {
+            Occupancy.fromEvent(event, mapper)
+                    .ifPresent(occupancy -> dailyOccupancyRepository.saveAll(days(occupancy)));
+        } catch (JsonProcessingException | DateTimeParseException ex) {
+            // A malformed event shouldn't stop the projection, the next change of the aggregate corrects it
+            log.warn("Skipping outbox event {} in the daily occupancy projection", event.getId(), ex);
+        }
+    }
+
+    private long rebuildChunks(final List<List<String>> chunks) {
+        final ExecutorService executor = Executors.newFixedThreadPool(
+                rebuildParallelism, Thread.ofPlatform().name("occupancy-rebuild-", 0).factory());
+        try {
+            final List<Future<Integer>> results = new ArrayList<>(chunks.size());
+            for (List<String> chunk : chunks) results.add(executor.submit(() -> rebuildChunk(chunk)));
+
+            long rows = 0;
+            for (Future<Integer> result : results) rows += result.get();
+            return rows;
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Failed to rebuild the daily occupancy projection", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the daily occupancy projection", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuildChunk(final List<String> propertyIds) {
+        final Integer rows = transactionTemplate.execute(status -> {
+            dailyOccupancyRepository.deleteByPropertyIds(propertyIds);
+
+            final List<DailyOccupancyEntity> days = new ArrayList<>();
+            for (OccupancyView view : bookingRepository.findConfirmedOccupancy(propertyIds))
+                days.addAll(days(toOccupancy(AggregateType.BOOKING, view)));
+            // Archived bookings are past, their days still count in reports
+            for (OccupancyView view : bookingArchiveRepository.findConfirmedOccupancy(propertyIds))
+                days.addAll(days(toOccupancy(AggregateType.BOOKING, view)));
+            for (OccupancyView view : blockRepository.findOccupancy(propertyIds))
+                days.addAll(days(toOccupancy(AggregateType.BLOCK, view)));
+
+            dailyOccupancyRepository.saveAll(days);
+            return days.size();
+        });
+        return rows != null ? rows : 0;
+    }
+
+    private List<List<String>> partition(final List<String> propertyIds) {
+        final List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < propertyIds.size(); from += rebuildChunkSize)
+            chunks.add(propertyIds.subList(from, Math.min(from + rebuildChunkSize, propertyIds.size())));
+        return chunks;
+    }
+
+    // Dates are inclusive on both ends, as in the overlap checks
+    private static List<DailyOccupancyEntity> days(final Occupancy occupancy) {
+        return occupancy
+                .startDate()
+                .datesUntil(occupancy.endDate().plusDays(1))
+                .map(day -> new DailyOccupancyEntity(occupancy.propertyId(), day, occupancy.type(), occupancy.id()))
+                .toList();
+    }
+
+    private static Occupancy toOccupancy(final AggregateType type, final OccupancyView view) {
+        return new Occupancy(view.getPropertyId(), type, view.getId(), view.getStartDate(), view.getEndDate());
+    }
+}
@@ -0,0 +1,159 @@
+package com.hostfully.app.report.service;
+
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.BookingStayView;
+import com.hostfully.app.infra.repository.DailyOccupancyRepository;
+import com.hostfully.app.infra.repository.DailyOccupancySummary;
+import com.hostfully.app.report.domain.PropertyOccupancy;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Splits the properties into ranges aggregated in parallel on a dedicated fork/join pool. Each leaf reads its range in
+// a read-only transaction (routed to the replica when there is one): the nights are indexed range sums over the daily
+// occupancy projection, the bookings, hot and archived, are streamed. Totals go into primitive arrays shared by all the
+// leaves, each one writing only the slots of its own range; joining the tasks publishes them.
+@Component
+public class OccupancyAggregator {
+
+    private final DailyOccupancyRepository dailyOccupancyRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingArchiveRepository bookingArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public OccupancyAggregator(
+            final DailyOccupancyRepository dailyOccupancyRepository,
+            final BookingRepository bookingRepository,
+            final BookingArchiveRepository bookingArchiveRepository,
+            final PlatformTransactionManager transactionManager,
+            @Value("${report.occupancy.parallelism}") final int parallelism,
+            @Value("${report.occupancy.chunk-size}") final int chunkSize) {
+        this.dailyOccupancyRepository = dailyOccupancyRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingArchiveRepository = bookingArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // Leaves block on JDBC, the parallelism should stay below the connection pool size
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+    }
+
+    public List<PropertyOccupancy> aggregate(final List<String> propertyIds, final LocalDate from, final LocalDate to) {
+        final Totals totals = new Totals(propertyIds.toArray(String[]::new));
+        // Leaves locate a property by binary search, the database collation may order ids differently
+        Arrays.sort(totals.ids);
+        pool.invoke(new Aggregation(totals, from, to, 0, totals.ids.length));
+        return totals.toReport(ChronoUnit.DAYS.between(from, to) + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void aggregateRange(
+            final Totals totals, final LocalDate from, final LocalDate to, final int start, final int end) {
+        final List<String> ids = Arrays.asList(totals.ids).subList(start, end);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (DailyOccupancySummary summary : dailyOccupancyRepository.summarize(ids, from, to)) {
+                final int slot = totals.slot(summary.getPropertyId(), start, end);
+                totals.bookedNights[slot] = summary.getBookedDays();
+                totals.blockedNights[slot] = summary.getBlockedDays();
+            }
+
+            try (Stream<BookingStayView> stays = bookingRepository.streamStays(ids, from, to)) {
+                stays.forEach(stay -> totals.add(stay, start, end));
+            }
+            try (Stream<BookingStayView> stays = bookingArchiveRepository.streamStays(ids, from, to)) {
+                stays.forEach(stay -> totals.add(stay, start, end));
+            }
+        });
+    }
+
+    private final class Aggregation extends RecursiveAction {
+
+        private final Totals totals;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final int start;
+        private final int end;
+
+        private Aggregation(
+                final Totals totals, final LocalDate from, final LocalDate to, final int start, final int end) {
+            this.totals = totals;
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                if (end > start) aggregateRange(totals, from, to, start, end);
+                return;
+            }
+            final int middle = (start + end) >>> 1;
+            invokeAll(new Aggregation(totals, from, to, start, middle), new Aggregation(totals, from, to, middle, end));
+        }
+    }
+
+    // One slot per property, in the order of ids
+    private static final class Totals {
+
+        private final String[] ids;
+        private final long[] bookedNights;
+        private final long[] blockedNights;
+        private final int[] bookings;
+        private final int[] cancellations;
+        private final long[] stayNights;
+
+        private Totals(final String[] ids) {
+            this.ids = ids;
+            this.bookedNights = new long[ids.length];
+            this.blockedNights = new long[ids.length];
+            this.bookings = new int[ids.length];
+            this.cancellations = new int[ids.length];
+            this.stayNights = new long[ids.length];
+        }
+
+        private int slot(final String propertyId, final int start, final int end) {
+            return Arrays.binarySearch(ids, start, end, propertyId);
+        }
+
+        private void add(final BookingStayView stay, final int start, final int end) {
+            final int slot = slot(stay.getPropertyId(), start, end);
+            bookings[slot]++;
+            if (stay.getStatus().isCancelled()) cancellations[slot]++;
+            else stayNights[slot] += ChronoUnit.DAYS.between(stay.getStartDate(), stay.getEndDate()) + 1;
+        }
+
+        private List<PropertyOccupancy> toReport(final long periodDays) {
+            final List<PropertyOccupancy> report = new ArrayList<>(ids.length);
+            for (int slot = 0; slot < ids.length; slot++) {
+                final int confirmed = bookings[slot] - cancellations[slot];
+                report.add(new PropertyOccupancy(
+                        ids[slot],
+                        bookedNights[slot],
+                        blockedNights[slot],
+                        (double) bookedNights[slot] / periodDays,
+                        bookings[slot] == 0 ? 0 : (double) cancellations[slot] / bookings[slot],
+                        confirmed == 0 ? 0 : (double) stayNights[slot] / confirmed));
+            }
+            return report;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.hostfully.app.report.usecase;
+
+import com.hostfully.app.infra.cache.OccupancyReportCache;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.report.domain.OccupancyReport;
+import com.hostfully.app.report.service.OccupancyAggregator;
+import com.hostfully.app.shared.util.DateRangeValidator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class GetOccupancyReport {
+
+    private final OccupancyReportCache occupancyReportCache;
+    private final OccupancyAggregator occupancyAggregator;
+    private final PropertyRepository propertyRepository;
+
+    // Portfolio ids that aren't properties are left out of the report, no portfolio reports every property
+    public OccupancyReport execute(final LocalDate from, final LocalDate to, final List<String> portfolio) {
+        if (!DateRangeValidator.validateDateRange(from, to, true))
+            throw new InvalidDateRangeException("The end date must not be before the start date.");
+
+        final List<String> ids = portfolio == null ? List.of() : portfolio.stream().distinct().sorted().toList();
+        return occupancyReportCache.get(new OccupancyReportCache.Key(from, to, ids), this::generate);
+    }
+
+    private OccupancyReport generate(final OccupancyReportCache.Key key) {
+        List<String> propertyIds = propertyRepository.findAllExternalIds();
+        if (!key.portfolio().isEmpty()) {
+            final Set<String> portfolio = new HashSet<>(key.portfolio());
+            propertyIds = propertyIds.stream().filter(portfolio::contains).toList();
+        }
+
+        return new OccupancyReport(
+                key.from(),
+                key.to(),
+                Instant.now(),
+                occupancyAggregator.aggregate(propertyIds, key.from(), key.to()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.hostfully.app.shared;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hostfully.app.infra.entity.Idempotency;
 import com.hostfully.app.infra.repository.IdempotencyRepository;
@@ -19,14 +20,17 @@ public class IdempotencyService {
     private final IdempotencyRepository idempotencyRepository;
     private final ObjectMapper mapper;
 
+    // Inserted in the use case transaction, a duplicate key fails on the primary key
     public <T> void saveResponse(UUID id, T response) {
+        final String json;
         try {
-            String json = mapper.writeValueAsString(response);
-            idempotencyRepository.save(new Idempotency(id, json));
-        } catch (Exception e) {
+            json = mapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
             log.error(e.getMessage(), e);
             throw new RuntimeException("Failed to serialize response", e);
         }
+
+        idempotencyRepository.save(new Idempotency(id, json));
     }
 
     public <T> Optional<T> getResponse(UUID key, Class<T> responseType) {
@@ -0,0 +1,95 @@
+package com.hostfully.app.shared.admission;
+
+import com.hostfully.app.shared.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Caps the writes in flight for each property and for the whole node. Requests over a cap are rejected right away
+// (429 with Retry-After) instead of queueing on the overlap checks, row locks and connection pool, so a hot listing
+// can't starve the others.
+@Component
+public class AdmissionControl {
+
+    private final int maxInFlightPerProperty;
+    private final Duration retryAfter;
+    private final Semaphore nodePermits;
+    private final int maxInFlight;
+
+    // Only properties with writes in flight have an entry, so the map stays as small as the node's concurrency
+    private final Map<String, Integer> inFlightByProperty = new ConcurrentHashMap<>();
+
+    private final Counter propertyRejections;
+    private final Counter nodeRejections;
+
+    public AdmissionControl(
+            @Value("${admission.max-in-flight-per-property}") final int maxInFlightPerProperty,
+            @Value("${admission.max-in-flight}") final int maxInFlight,
+            @Value("${admission.retry-after}") final Duration retryAfter,
+            final MeterRegistry meterRegistry) {
+        this.maxInFlightPerProperty = maxInFlightPerProperty;
+        this.maxInFlight = maxInFlight;
+        this.retryAfter = retryAfter;
+        this.nodePermits = new Semaphore(maxInFlight);
+
+        this.propertyRejections = Counter.builder("admission.rejected")
+                .tag("scope", "property")
+                .register(meterRegistry);
+        this.nodeRejections = Counter.builder("admission.rejected")
+                .tag("scope", "node")
+                .register(meterRegistry);
+        Gauge.builder("admission.in.flight", this, AdmissionControl::inFlight).register(meterRegistry);
+    }
+
+    // A null propertyId only counts against the node cap
+    public <T> T admit(final String propertyId, final Supplier<T> action) {
+        if (!nodePermits.tryAcquire()) {
+            nodeRejections.increment();
+            throw new AdmissionRejectedException(
+                    "The service is handling too many requests, try again later", retryAfter);
+        }
+
+        try {
+            if (propertyId != null && !tryAcquire(propertyId)) {
+                propertyRejections.increment();
+                throw new AdmissionRejectedException(
+                        "This property is handling too many requests, try again later", retryAfter);
+            }
+
+            try {
+                return action.get();
+            } finally {
+                if (propertyId != null) release(propertyId);
+            }
+        } finally {
+            nodePermits.release();
+        }
+    }
+
+    public int inFlight() {
+        return maxInFlight - nodePermits.availablePermits();
+    }
+
+    private boolean tryAcquire(final String propertyId) {
+        final boolean[] admitted = {false};
+        inFlightByProperty.compute(propertyId, (key, count) -> {
+            final int current = count == null ? 0 : count;
+            if (current >= maxInFlightPerProperty) return count;
+
+            admitted[0] = true;
+            return current + 1;
+        });
+        return admitted[0];
+    }
+
+    private void release(final String propertyId) {
+        inFlightByProperty.computeIfPresent(propertyId, (key, count) -> count <= 1 ? null : count - 1);
+    }
+}
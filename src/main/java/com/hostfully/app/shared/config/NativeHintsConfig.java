@@ -0,0 +1,102 @@
+package com.hostfully.app.shared.config;
+
+import com.hostfully.app.availability.controller.dto.AvailabilityCheckRequest;
+import com.hostfully.app.availability.domain.StayAvailability;
+import com.hostfully.app.availability.index.Occupancy;
+import com.hostfully.app.availability.stream.AvailabilityChange;
+import com.hostfully.app.block.controller.dto.BlockRequest;
+import com.hostfully.app.block.domain.Block;
+import com.hostfully.app.booking.controller.dto.BookingRequest;
+import com.hostfully.app.booking.controller.dto.RebookBookingRequest;
+import com.hostfully.app.booking.controller.dto.UpdateBookingRequest;
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.infra.entity.Auditable;
+import com.hostfully.app.infra.entity.BlockEntity;
+import com.hostfully.app.infra.entity.BookingArchiveEntity;
+import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.entity.CacheInvalidationEntity;
+import com.hostfully.app.infra.entity.DailyOccupancyEntity;
+import com.hostfully.app.infra.entity.Idempotency;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.entity.OutboxOffsetEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.property.controller.dto.PropertyRequest;
+import com.hostfully.app.property.domain.Property;
+import com.hostfully.app.report.domain.OccupancyReport;
+import com.hostfully.app.report.domain.PropertyOccupancy;
+import com.hostfully.app.shared.logging.JsonLogEncoder;
+import java.util.List;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+// Native image hints for what Spring AOT can't infer from the bean definitions and controller signatures: the
+// entities (Hibernate reads and writes their fields), the JSON types bound outside controller signatures (outbox
+// payloads, idempotent responses, SSE events) and validated request records, the log encoder named in
+// logback-spring.xml and the cache regions of hibernate-caches.conf. Unused on the JVM.
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static final List<Class<?>> ENTITIES = List.of(
+            Auditable.class,
+            BookingEntity.class,
+            BookingEntity.BookingStatus.class,
+            BookingArchiveEntity.class,
+            BlockEntity.class,
+            PropertyEntity.class,
+            Idempotency.class,
+            CacheInvalidationEntity.class,
+            OutboxEventEntity.class,
+            OutboxOffsetEntity.class,
+            DailyOccupancyEntity.class,
+            DailyOccupancyEntity.Key.class);
+
+    static final List<Class<?>> JSON_TYPES = List.of(
+            Booking.class,
+            Block.class,
+            Property.class,
+            BookingRequest.class,
+            UpdateBookingRequest.class,
+            RebookBookingRequest.class,
+            BlockRequest.class,
+            PropertyRequest.class,
+            AvailabilityChange.class,
+            Occupancy.class,
+            AvailabilityCheckRequest.class,
+            AvailabilityCheckRequest.Stay.class,
+            StayAvailability.class,
+            OccupancyReport.class,
+            PropertyOccupancy.class);
+
+    public static class Hints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+            ENTITIES.forEach(entity -> hints.reflection()
+                    .registerType(
+                            entity,
+                            MemberCategory.DECLARED_FIELDS,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_METHODS));
+
+            bindingRegistrar.registerReflectionHints(hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+            // Bean validation reads the constraints on the request records' fields and @AssertTrue methods
+            JSON_TYPES.forEach(type -> hints.reflection()
+                    .registerType(type, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS));
+
+            hints.reflection()
+                    .registerType(
+                            JsonLogEncoder.class,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            hints.resources().registerPattern("hibernate-caches.conf");
+        }
+    }
+}
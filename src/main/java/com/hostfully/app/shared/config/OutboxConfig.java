@@ -0,0 +1,17 @@
+package com.hostfully.app.shared.config;
+
+import com.hostfully.app.shared.outbox.LoggingOutboxPublisher;
+import com.hostfully.app.shared.outbox.OutboxPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxPublisher.class)
+    public OutboxPublisher outboxPublisher() {
+        return new LoggingOutboxPublisher();
+    }
+}
@@ -0,0 +1,40 @@
+package com.hostfully.app.shared.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Enabled when datasource.replica.jdbc-url is set. Read-only transactions mark their connection read-only before the
+// first statement, the lazy proxy only then picks the physical connection: replica for read-only work, primary for
+// everything else.
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.jdbc-url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final DataSourceProperties properties) {
+        final LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource(properties));
+        dataSource.setReadOnlyDataSource(replicaDataSource());
+        return dataSource;
+    }
+}
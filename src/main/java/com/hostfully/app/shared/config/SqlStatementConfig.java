@@ -0,0 +1,32 @@
+package com.hostfully.app.shared.config;
+
+import com.hostfully.app.shared.sql.StatementCountingDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Every statement of the application goes through the dataSource bean, the auto-configured pool or the read replica
+// routing proxy. Wrapping only that bean keeps the pools behind the routing proxy from being counted twice.
+@Configuration
+public class SqlStatementConfig {
+
+    static final String DATA_SOURCE = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource(final Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (!DATA_SOURCE.equals(beanName)
+                        || !(bean instanceof DataSource dataSource)
+                        || bean instanceof StatementCountingDataSource) return bean;
+
+                return new StatementCountingDataSource(
+                        dataSource, environment.getRequiredProperty("sql.slow-statement", Duration.class));
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.hostfully.app.shared.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.MethodMetadata;
+
+// Beans that no request on the booking path needs are created on first use instead of at startup: springdoc (its
+// scanning runs with the first /v3/api-docs call) and the H2 console servlet, which Spring Boot loads on startup.
+// With Spring AOT the flags are recorded at build time.
+@Configuration
+@ConditionalOnProperty(name = "startup.lazy-non-critical-beans", havingValue = "true", matchIfMissing = true)
+public class StartupConfig {
+
+    static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+    static final String H2_CONSOLE = "h2Console";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                final BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (declaringClass(definition).startsWith(SPRINGDOC_PACKAGE)) definition.setLazyInit(true);
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor lazyH2Console() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (H2_CONSOLE.equals(beanName) && bean instanceof ServletRegistrationBean<?> registration)
+                    registration.setLoadOnStartup(-1);
+                return bean;
+            }
+        };
+    }
+
+    // The bean's class, or the configuration class declaring its @Bean method
+    private static String declaringClass(final BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            final MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) return factoryMethod.getDeclaringClassName();
+        }
+        final String beanClassName = definition.getBeanClassName();
+        return beanClassName != null ? beanClassName : "";
+    }
+}
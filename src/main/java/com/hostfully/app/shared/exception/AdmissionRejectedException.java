@@ -0,0 +1,22 @@
+package com.hostfully.app.shared.exception;
+
+import java.time.Duration;
+
+public class AdmissionRejectedException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String msg, Duration retryAfter) {
+        super(msg);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public String getTitle() {
+        return "Too many requests";
+    }
+}
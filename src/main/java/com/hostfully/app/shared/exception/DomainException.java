@@ -0,0 +1,11 @@
+package com.hostfully.app.shared.exception;
+
+// Expected business rejections (overlaps, not found, invalid ranges). They are part of the normal flow, so the
+// stack trace is never captured nor written.
+public abstract class DomainException extends RuntimeException {
+    protected DomainException(String msg) {
+        super(msg, null, false, false);
+    }
+
+    public abstract String getTitle();
+}
@@ -1,18 +1,23 @@
 package com.hostfully.app.shared.exception;
 
+import com.hostfully.app.availability.exception.StreamCapacityExceededException;
+import com.hostfully.app.availability.exception.TooManyPropertiesException;
 import com.hostfully.app.block.exceptions.*;
 import com.hostfully.app.booking.exception.*;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.property.exception.PropertyCreationException;
+import com.hostfully.app.shared.util.LogThrottle;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +37,11 @@ public class GlobalExceptionHandler {
     // RFC 7807 - when we don't have documentation available should be about:blank
     public static final String PROBLEM_BASE_URL = "about:blank";
 
+    private static final URI PROBLEM_TYPE = URI.create(PROBLEM_BASE_URL);
+
+    // Server errors are logged with the stack trace, at most a few per second for each exception type
+    private final LogThrottle errorLogThrottle = new LogThrottle(5, Duration.ofSeconds(1));
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
@@ -43,16 +53,11 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        final ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Validation failed for one or more fields");
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle("Validation Error");
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
+        final ProblemDetail problemDetail = problemDetail(
+                HttpStatus.BAD_REQUEST, "Validation Error", "Validation failed for one or more fields", request);
         problemDetail.setProperty("errors", errors);
 
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
+        if (log.isDebugEnabled()) log.debug("Validation failed for {}: {}", request.getRequestURI(), errors);
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
@@ -61,13 +66,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ProblemDetail> handleNoResourceFoundException(
             NoResourceFoundException ex, HttpServletRequest request) {
 
-        ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "The requested resource was not found");
-
-        problemDetail.setTitle("Resource Not Found");
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setProperty("timestamp", Instant.now());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
+        final ProblemDetail problemDetail = problemDetail(
+                HttpStatus.NOT_FOUND, "Resource Not Found", "The requested resource was not found", request);
         problemDetail.setProperty("resourcePath", ex.getResourcePath());
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
@@ -77,13 +77,11 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ProblemDetail> handleHttpRequestMethodNotSupportedException(
             HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
-                HttpStatus.METHOD_NOT_ALLOWED, "The HTTP method is not supported for this endpoint");
-
-        problemDetail.setTitle("Method Not Allowed");
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setProperty("timestamp", Instant.now());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
+        final ProblemDetail problemDetail = problemDetail(
+                HttpStatus.METHOD_NOT_ALLOWED,
+                "Method Not Allowed",
+                "The HTTP method is not supported for this endpoint",
+                request);
         problemDetail.setProperty("method", ex.getMethod());
         problemDetail.setProperty(
                 "supportedMethods",
@@ -98,97 +96,41 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGenericException(Exception ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle("Internal Server Error");
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
+        return serverError("Internal Server Error", "An unexpected error occurred", ex, request);
     }
 
     @ExceptionHandler(BlockGenericException.class)
     public ResponseEntity<ProblemDetail> handleBlockCreationException(
             BlockGenericException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
+        return serverError(ex.getTitle(), ex.getMessage(), ex, request);
     }
 
     @ExceptionHandler(OverlapBlockException.class)
     public ResponseEntity<ProblemDetail> handleOverlapBlockException(
             OverlapBlockException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+        return rejection(HttpStatus.CONFLICT, ex, request);
     }
 
     @ExceptionHandler(PropertyNotFoundException.class)
     public ResponseEntity<ProblemDetail> handlePropertyNotFoundException(
             PropertyNotFoundException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
+        return rejection(HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(InvalidDateRangeException.class)
     public ResponseEntity<ProblemDetail> handleInvalidDateRangeException(
             InvalidDateRangeException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
+        return rejection(HttpStatus.BAD_REQUEST, ex, request);
     }
 
     @ExceptionHandler(MissingRequestHeaderException.class)
     public ResponseEntity<ProblemDetail> handleMissingRequestHeaderException(
             MissingRequestHeaderException ex, HttpServletRequest request) {
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle("Missing mandatory header");
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
+        final ProblemDetail problemDetail =
+                problemDetail(HttpStatus.BAD_REQUEST, "Missing mandatory header", ex.getMessage(), request);
 
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
+        if (log.isDebugEnabled()) log.debug("Rejected {}: {}", request.getRequestURI(), ex.getMessage());
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problemDetail);
     }
@@ -196,114 +138,115 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BlockNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleBlockNotFoundException(
             BlockNotFoundException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
+        return rejection(HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(OverlapBookingException.class)
     public ResponseEntity<ProblemDetail> handleOverlapBookingException(
             OverlapBookingException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+        return rejection(HttpStatus.CONFLICT, ex, request);
     }
 
     @ExceptionHandler(BookingGenericException.class)
     public ResponseEntity<ProblemDetail> handleBookingGenericException(
             BookingGenericException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
+        return serverError(ex.getTitle(), ex.getMessage(), ex, request);
     }
 
     @ExceptionHandler(BookingNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleBookingNotFoundException(
             BookingNotFoundException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(problemDetail);
+        return rejection(HttpStatus.NOT_FOUND, ex, request);
     }
 
     @ExceptionHandler(RebookNotAllowedException.class)
     public ResponseEntity<ProblemDetail> handleOReebokNotAllowedException(
             RebookNotAllowedException ex, HttpServletRequest request) {
-
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
-
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
-
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+        return rejection(HttpStatus.CONFLICT, ex, request);
     }
 
     @ExceptionHandler(UpdateNotAllowedException.class)
     public ResponseEntity<ProblemDetail> handleUpdateNotAllowedException(
             UpdateNotAllowedException ex, HttpServletRequest request) {
+        return rejection(HttpStatus.CONFLICT, ex, request);
+    }
 
-        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+    @ExceptionHandler(BookingConflictException.class)
+    public ResponseEntity<ProblemDetail> handleBookingConflictException(
+            BookingConflictException ex, HttpServletRequest request) {
+        return rejection(HttpStatus.CONFLICT, ex, request);
+    }
 
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle(ex.getTitle());
-        problemDetail.setInstance(URI.create(request.getRequestURI()));
-        problemDetail.setProperty("timestamp", Instant.now());
+    @ExceptionHandler(BookingVersionMismatchException.class)
+    public ResponseEntity<ProblemDetail> handleBookingVersionMismatchException(
+            BookingVersionMismatchException ex, HttpServletRequest request) {
+        return rejection(HttpStatus.PRECONDITION_FAILED, ex, request);
+    }
 
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
+    @ExceptionHandler(TooManyPropertiesException.class)
+    public ResponseEntity<ProblemDetail> handleTooManyPropertiesException(
+            TooManyPropertiesException ex, HttpServletRequest request) {
+        return rejection(HttpStatus.BAD_REQUEST, ex, request);
+    }
 
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    @ExceptionHandler(StreamCapacityExceededException.class)
+    public ResponseEntity<ProblemDetail> handleStreamCapacityExceededException(
+            StreamCapacityExceededException ex, HttpServletRequest request) {
+        return rejection(HttpStatus.SERVICE_UNAVAILABLE, ex, request);
+    }
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ProblemDetail> handleAdmissionRejectedException(
+            AdmissionRejectedException ex, HttpServletRequest request) {
+        final ResponseEntity<ProblemDetail> response = rejection(HttpStatus.TOO_MANY_REQUESTS, ex, request);
+
+        // Whole seconds, rounded up so clients never come back before the window is over
+        final long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
     }
 
     @ExceptionHandler(PropertyCreationException.class)
     public ResponseEntity<ProblemDetail> handlePropertyCreationException(
             PropertyCreationException ex, HttpServletRequest request) {
+        return serverError("Internal Server Error", ex.getMessage(), ex, request);
+    }
+
+    // Rejections are an expected outcome: no stack trace and only visible at debug level
+    private ResponseEntity<ProblemDetail> rejection(
+            final HttpStatus status, final DomainException ex, final HttpServletRequest request) {
+        if (log.isDebugEnabled()) log.debug("Rejected {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.status(status).body(problemDetail(status, ex.getTitle(), ex.getMessage(), request));
+    }
+
+    private ResponseEntity<ProblemDetail> serverError(
+            final String title, final String detail, final Exception ex, final HttpServletRequest request) {
+        logServerError(ex);
 
-        ProblemDetail problemDetail =
-                ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(problemDetail(HttpStatus.INTERNAL_SERVER_ERROR, title, detail, request));
+    }
+
+    private void logServerError(final Exception ex) {
+        final String key = ex.getClass().getName();
+        if (!log.isErrorEnabled() || !errorLogThrottle.tryAcquire(key)) return;
+
+        final long suppressed = errorLogThrottle.drainSuppressed(key);
+        if (suppressed > 0) log.error("{} ({} similar errors suppressed)", ex.getMessage(), suppressed, ex);
+        else log.error(ex.getMessage(), ex);
+    }
+
+    private static ProblemDetail problemDetail(
+            final HttpStatus status, final String title, final String detail, final HttpServletRequest request) {
+        final ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
 
-        problemDetail.setType(URI.create(PROBLEM_BASE_URL));
-        problemDetail.setTitle("Internal Server Error");
+        problemDetail.setType(PROBLEM_TYPE);
+        problemDetail.setTitle(title);
         problemDetail.setInstance(URI.create(request.getRequestURI()));
         problemDetail.setProperty("timestamp", Instant.now());
 
-        if (log.isErrorEnabled()) log.error(ex.getMessage(), ex);
-
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problemDetail);
+        return problemDetail;
     }
 }
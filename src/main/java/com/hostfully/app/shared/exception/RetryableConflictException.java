@@ -0,0 +1,9 @@
+package com.hostfully.app.shared.exception;
+
+// A write lost a race with a concurrent one (its conditional update matched no row). Running the use case again,
+// in a new transaction, reads the winner's state and usually succeeds, see RetryOnConflict.
+public abstract class RetryableConflictException extends DomainException {
+    protected RetryableConflictException(String msg) {
+        super(msg);
+    }
+}
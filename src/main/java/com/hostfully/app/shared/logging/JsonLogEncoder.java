@@ -0,0 +1,107 @@
+package com.hostfully.app.shared.logging;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+// One JSON object per line. Writes straight into a reused per-thread buffer instead of building an object tree,
+// the MDC context (requestId, propertyId, useCase) is flattened as top level fields.
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(512));
+    private final ThrowableProxyConverter throwableConverter = new ThrowableProxyConverter();
+
+    @Override
+    public void start() {
+        throwableConverter.setContext(getContext());
+        throwableConverter.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        throwableConverter.stop();
+        super.stop();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(final ILoggingEvent event) {
+        final StringBuilder sb = buffers.get();
+        sb.setLength(0);
+
+        sb.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), sb);
+        sb.append("\",\"level\":\"").append(event.getLevel().toString());
+        sb.append("\",\"thread\":");
+        appendString(sb, event.getThreadName());
+        sb.append(",\"logger\":");
+        appendString(sb, event.getLoggerName());
+        sb.append(",\"message\":");
+        appendString(sb, event.getFormattedMessage());
+
+        final Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                sb.append(',');
+                appendString(sb, entry.getKey());
+                sb.append(':');
+                appendString(sb, entry.getValue());
+            }
+        }
+
+        if (event.getThrowableProxy() != null) {
+            sb.append(",\"exception\":");
+            appendString(sb, throwableConverter.convert(event));
+        }
+
+        sb.append("}\n");
+
+        final byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        if (sb.capacity() > MAX_RETAINED_CAPACITY) buffers.remove();
+        return bytes;
+    }
+
+    private static void appendString(final StringBuilder sb, final String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,17 @@
+package com.hostfully.app.shared.logging;
+
+import org.slf4j.MDC;
+
+// MDC keys carried by every log line, so a request can be followed without parsing messages
+public final class LogContext {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String PROPERTY_ID = "propertyId";
+    public static final String USE_CASE = "useCase";
+
+    private LogContext() {}
+
+    public static void propertyId(final String propertyId) {
+        if (propertyId != null) MDC.put(PROPERTY_ID, propertyId);
+    }
+}
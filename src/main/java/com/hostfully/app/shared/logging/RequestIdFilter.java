@@ -0,0 +1,45 @@
+package com.hostfully.app.shared.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.UUID;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final String requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+
+        MDC.put(LogContext.REQUEST_ID, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(LogContext.REQUEST_ID);
+            MDC.remove(LogContext.PROPERTY_ID);
+            MDC.remove(LogContext.USE_CASE);
+        }
+    }
+
+    private String resolveRequestId(final String header) {
+        if (header == null || header.isBlank() || header.length() > MAX_REQUEST_ID_LENGTH)
+            return UUID.randomUUID().toString();
+
+        return header;
+    }
+}
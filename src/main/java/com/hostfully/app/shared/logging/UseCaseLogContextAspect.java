@@ -0,0 +1,31 @@
+package com.hostfully.app.shared.logging;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class UseCaseLogContextAspect {
+
+    @Around("within(com.hostfully.app..usecase..*) && execution(public * execute(..))")
+    public Object withUseCase(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final String previousUseCase = MDC.get(LogContext.USE_CASE);
+        final String previousPropertyId = MDC.get(LogContext.PROPERTY_ID);
+
+        MDC.put(LogContext.USE_CASE, joinPoint.getSignature().getDeclaringType().getSimpleName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            restore(LogContext.USE_CASE, previousUseCase);
+            restore(LogContext.PROPERTY_ID, previousPropertyId);
+        }
+    }
+
+    private void restore(final String key, final String value) {
+        if (value == null) MDC.remove(key);
+        else MDC.put(key, value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.hostfully.app.shared.outbox;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Default publisher until a broker is wired in: one log line per event, the payload only at DEBUG
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxPublisher.class);
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void publish(final List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            log.info(
+                    "Outbox event {} {} {} {} (property {})",
+                    event.id(),
+                    event.aggregateType(),
+                    event.aggregateId(),
+                    event.eventType(),
+                    event.propertyId());
+            // Payloads carry guest details, kept out of the INFO logs
+            log.debug("Outbox event {} payload: {}", event.id(), event.payload());
+        }
+    }
+}
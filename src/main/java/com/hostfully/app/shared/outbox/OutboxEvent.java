@@ -0,0 +1,27 @@
+package com.hostfully.app.shared.outbox;
+
+import java.time.Instant;
+
+// Compact change event: the aggregate as returned by the API (JSON), null for deletes
+public record OutboxEvent(
+        Long id,
+        AggregateType aggregateType,
+        String aggregateId,
+        String propertyId,
+        EventType eventType,
+        String payload,
+        Instant createdAt) {
+
+    public enum AggregateType {
+        BOOKING,
+        BLOCK
+    }
+
+    public enum EventType {
+        CREATED,
+        UPDATED,
+        CANCELLED,
+        REBOOKED,
+        DELETED
+    }
+}
@@ -0,0 +1,13 @@
+package com.hostfully.app.shared.outbox;
+
+import java.util.List;
+
+// Delivers outbox events downstream. Events come in id order, so in order per property, and a batch that fails is
+// delivered again: implementations must tolerate duplicates.
+public interface OutboxPublisher {
+
+    // Key of this publisher's offset in outbox_offsets
+    String name();
+
+    void publish(List<OutboxEvent> events);
+}
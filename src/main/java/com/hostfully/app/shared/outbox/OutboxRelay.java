@@ -0,0 +1,87 @@
+package com.hostfully.app.shared.outbox;
+
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.entity.OutboxOffsetEntity;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.infra.repository.OutboxOffsetRepository;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Drains the outbox in batches, in id order. The publisher's offset row is locked for the whole batch, so only one
+// node relays at a time, and it only moves once the batch was published: at-least-once delivery.
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final int batchSize;
+    private final Duration settle;
+    private final Duration retention;
+
+    public OutboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final OutboxOffsetRepository outboxOffsetRepository,
+            final OutboxPublisher outboxPublisher,
+            @Value("${outbox.relay.batch-size}") final int batchSize,
+            @Value("${outbox.relay.settle}") final Duration settle,
+            @Value("${outbox.retention}") final Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxOffsetRepository = outboxOffsetRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.batchSize = batchSize;
+        this.settle = settle;
+        this.retention = retention;
+    }
+
+    // Ids are taken at insert but become visible at commit, so the newest events are left to settle: an offset moved
+    // past a lower id that wasn't committed yet would skip it for good.
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms}")
+    public void relay() {
+        final OutboxOffsetEntity offset = outboxOffsetRepository
+                .findForUpdate(outboxPublisher.name())
+                .orElseGet(() -> outboxOffsetRepository.saveAndFlush(
+                        new OutboxOffsetEntity(outboxPublisher.name(), 0L, Instant.now())));
+
+        final List<OutboxEventEntity> batch = outboxEventRepository.findByIdGreaterThanAndCreatedAtBeforeOrderById(
+                offset.getLastEventId(), Instant.now().minus(settle), Limit.of(batchSize));
+        if (batch.isEmpty()) return;
+
+        outboxPublisher.publish(batch.stream().map(OutboxRelay::toEvent).toList());
+
+        offset.setLastEventId(batch.getLast().getId());
+        offset.setUpdatedAt(Instant.now());
+        if (log.isDebugEnabled()) log.debug("Relayed {} outbox events up to {}", batch.size(), offset.getLastEventId());
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms}")
+    public void purge() {
+        outboxOffsetRepository
+                .findById(outboxPublisher.name())
+                .ifPresent(offset -> outboxEventRepository.deleteDeliveredBefore(
+                        offset.getLastEventId(), Instant.now().minus(retention)));
+    }
+
+    private static OutboxEvent toEvent(final OutboxEventEntity entity) {
+        return new OutboxEvent(
+                entity.getId(),
+                entity.getAggregateType(),
+                entity.getAggregateId(),
+                entity.getPropertyId(),
+                entity.getEventType(),
+                entity.getPayload(),
+                entity.getCreatedAt());
+    }
+}
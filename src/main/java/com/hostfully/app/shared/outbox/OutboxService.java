@@ -0,0 +1,57 @@
+package com.hostfully.app.shared.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hostfully.app.block.domain.Block;
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import jakarta.transaction.Transactional;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+// Events are written in the use case's transaction: they exist if and only if the change was committed
+@Service
+@AllArgsConstructor
+@Transactional(Transactional.TxType.MANDATORY)
+public class OutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxService.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper mapper;
+
+    public void bookingChanged(final EventType eventType, final Booking booking) {
+        record(AggregateType.BOOKING, booking.getId(), booking.getPropertyId(), eventType, booking);
+    }
+
+    public void blockChanged(final EventType eventType, final Block block) {
+        record(AggregateType.BLOCK, block.getId(), block.getPropertyId(), eventType, block);
+    }
+
+    public void deleted(final AggregateType aggregateType, final String id, final String propertyId) {
+        record(aggregateType, id, propertyId, EventType.DELETED, null);
+    }
+
+    private void record(
+            final AggregateType aggregateType,
+            final String aggregateId,
+            final String propertyId,
+            final EventType eventType,
+            final Object payload) {
+        final String json;
+        try {
+            json = payload != null ? mapper.writeValueAsString(payload) : null;
+        } catch (Exception e) {
+            log.error(e.getMessage(), e);
+            throw new RuntimeException("Failed to serialize outbox event", e);
+        }
+
+        outboxEventRepository.save(
+                new OutboxEventEntity(aggregateType, aggregateId, propertyId, eventType, json, Instant.now()));
+    }
+}
@@ -0,0 +1,108 @@
+package com.hostfully.app.shared.pool;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Moves the maximum size of the primary pool between min-size and max-size from the mean connection acquire time
+// since the previous run (hikaricp.connections.acquire): grown by step while it is over target-acquire or threads are
+// waiting, shrunk by one while it is under half of it and the pool has spare connections. Hikari stops opening
+// connections over a lowered maximum, the idle ones over min-size are closed after the idle timeout.
+@Component
+@ConditionalOnProperty(name = "datasource.pool.adaptive.enabled", havingValue = "true")
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final HikariDataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final long targetAcquireNanos;
+
+    private final Counter grown;
+    private final Counter shrunk;
+
+    // Acquire timer totals at the previous run, the timer is cumulative
+    private long lastAcquired;
+    private double lastAcquireNanos;
+
+    public AdaptivePoolSizer(
+            final DataSource dataSource,
+            final MeterRegistry meterRegistry,
+            @Value("${datasource.pool.adaptive.min-size}") final int minSize,
+            @Value("${datasource.pool.adaptive.max-size}") final int maxSize,
+            @Value("${datasource.pool.adaptive.step}") final int step,
+            @Value("${datasource.pool.adaptive.target-acquire}") final Duration targetAcquire)
+            throws SQLException {
+        // The primary pool, also behind the read replica routing proxy
+        this.dataSource = dataSource.unwrap(HikariDataSource.class);
+        this.meterRegistry = meterRegistry;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.targetAcquireNanos = targetAcquire.toNanos();
+
+        this.grown = Counter.builder("datasource.pool.resized").tag("direction", "grow").register(meterRegistry);
+        this.shrunk = Counter.builder("datasource.pool.resized").tag("direction", "shrink").register(meterRegistry);
+
+        final HikariConfigMXBean config = this.dataSource.getHikariConfigMXBean();
+        config.setMinimumIdle(minSize);
+        config.setMaximumPoolSize(Math.clamp(config.getMaximumPoolSize(), minSize, maxSize));
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.pool.adaptive.interval-ms}")
+    public void adjust() {
+        final HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        final Timer acquire = meterRegistry
+                .find("hikaricp.connections.acquire")
+                .tag("pool", dataSource.getPoolName())
+                .timer();
+        // Pool not started yet, or its metrics aren't recorded
+        if (pool == null || acquire == null) return;
+
+        final long acquired = acquire.count();
+        final double acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+        final double meanAcquireNanos =
+                acquired == lastAcquired ? 0 : (acquireNanos - lastAcquireNanos) / (acquired - lastAcquired);
+        lastAcquired = acquired;
+        lastAcquireNanos = acquireNanos;
+
+        final HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        final int current = config.getMaximumPoolSize();
+        final int next =
+                nextSize(current, meanAcquireNanos, pool.getThreadsAwaitingConnection(), pool.getActiveConnections());
+        if (next == current) return;
+
+        config.setMaximumPoolSize(next);
+        (next > current ? grown : shrunk).increment();
+        log.info(
+                "Connection pool resized from {} to {}, mean acquire time {} µs, {} active, {} waiting",
+                current,
+                next,
+                Math.round(meanAcquireNanos / 1_000),
+                pool.getActiveConnections(),
+                pool.getThreadsAwaitingConnection());
+    }
+
+    int nextSize(final int current, final double meanAcquireNanos, final int waiting, final int active) {
+        if (meanAcquireNanos > targetAcquireNanos || waiting > 0) return Math.min(maxSize, current + step);
+        if (meanAcquireNanos < targetAcquireNanos / 2.0 && active < current - step)
+            return Math.max(minSize, current - 1);
+        return current;
+    }
+}
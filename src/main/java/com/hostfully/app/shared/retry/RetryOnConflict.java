@@ -0,0 +1,12 @@
+package com.hostfully.app.shared.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Runs the method again, after a jittered backoff, when it fails with a RetryableConflictException. The method must
+// be safe to run again from the start: each attempt gets its own transaction.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {}
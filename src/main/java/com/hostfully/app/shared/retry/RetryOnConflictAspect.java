@@ -0,0 +1,76 @@
+package com.hostfully.app.shared.retry;
+
+import com.hostfully.app.shared.exception.RetryableConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Ordered ahead of the transaction interceptor, so every attempt runs in a new transaction and reads fresh state.
+// Backoff is "full jitter": a random wait up to an exponentially growing cap, so the requests that collided don't
+// collide again on the next attempt.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RetryOnConflictAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryOnConflictAspect.class);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final MeterRegistry meterRegistry;
+
+    public RetryOnConflictAspect(
+            @Value("${retry.conflict.max-attempts}") final int maxAttempts,
+            @Value("${retry.conflict.backoff}") final Duration backoff,
+            @Value("${retry.conflict.max-backoff}") final Duration maxBackoff,
+            final MeterRegistry meterRegistry) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.hostfully.app.shared.retry.RetryOnConflict)")
+    public Object retry(final ProceedingJoinPoint joinPoint) throws Throwable {
+        // Already inside a transaction: running again would read the same stale state, let the caller decide
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return joinPoint.proceed();
+
+        final String useCase = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RetryableConflictException ex) {
+                if (attempt >= maxAttempts) throw ex;
+
+                meterRegistry.counter("retry.conflict", "useCase", useCase).increment();
+                if (log.isDebugEnabled()) log.debug("{} conflicted (attempt {}), retrying", useCase, attempt);
+
+                if (!backoff(attempt)) throw ex;
+            }
+        }
+    }
+
+    private boolean backoff(final int attempt) {
+        final long cap = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt - 1, 20));
+        if (cap <= 0) return true;
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
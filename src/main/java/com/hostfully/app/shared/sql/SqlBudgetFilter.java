@@ -0,0 +1,118 @@
+package com.hostfully.app.shared.sql;
+
+import com.hostfully.app.shared.sql.SqlStatementRecorder.Recording;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Counts and times the SQL statements of each request (sql.request.statements, sql.request.time). A request running
+// more than max-statements, or lasting longer than max-duration, logs a warning with the fingerprints of its
+// statements as fields. With fail-on-exceed (tests) a request over the statement budget fails instead. The budget is
+// one ceiling for every endpoint, the statement counts of the use cases are pinned by UseCaseStatementCountTest.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String SQL_STATEMENTS = "sqlStatements";
+    static final String SQL_TIME_MS = "sqlTimeMs";
+    static final String SQL_FINGERPRINTS = "sqlFingerprints";
+    static final String REQUEST_TIME_MS = "requestTimeMs";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final int maxStatements;
+    private final Duration maxDuration;
+    private final boolean failOnExceed;
+
+    private final DistributionSummary statements;
+    private final Timer sqlTime;
+
+    public SqlBudgetFilter(
+            @Value("${sql.budget.max-statements}") final int maxStatements,
+            @Value("${sql.budget.max-duration}") final Duration maxDuration,
+            @Value("${sql.budget.fail-on-exceed}") final boolean failOnExceed,
+            final MeterRegistry meterRegistry) {
+        this.maxStatements = maxStatements;
+        this.maxDuration = maxDuration;
+        this.failOnExceed = failOnExceed;
+
+        this.statements = DistributionSummary.builder("sql.request.statements")
+                .description("SQL statements run by a request")
+                .register(meterRegistry);
+        this.sqlTime = Timer.builder("sql.request.time")
+                .description("Time a request spent running SQL statements")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final long startedAt = System.nanoTime();
+        final Recording recording = SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recording.close();
+            report(request, recording, Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        if (failOnExceed && recording.statements() > maxStatements)
+            throw new IllegalStateException("%s %s ran %d SQL statements, over the budget of %d: %s"
+                    .formatted(
+                            request.getMethod(),
+                            request.getRequestURI(),
+                            recording.statements(),
+                            maxStatements,
+                            recording.fingerprints()));
+    }
+
+    private void report(final HttpServletRequest request, final Recording recording, final Duration elapsed) {
+        if (recording.statements() == 0) return;
+
+        statements.record(recording.statements());
+        sqlTime.record(recording.elapsed());
+        if (recording.statements() <= maxStatements && elapsed.compareTo(maxDuration) <= 0) return;
+
+        MDC.put(SQL_STATEMENTS, String.valueOf(recording.statements()));
+        MDC.put(SQL_TIME_MS, String.valueOf(recording.elapsed().toMillis()));
+        MDC.put(REQUEST_TIME_MS, String.valueOf(elapsed.toMillis()));
+        MDC.put(SQL_FINGERPRINTS, fingerprints(recording));
+        try {
+            log.warn(
+                    "Request over its SQL budget: {} {} ran {} statements (budget {}) in {} ms (budget {} ms)",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    recording.statements(),
+                    maxStatements,
+                    elapsed.toMillis(),
+                    maxDuration.toMillis());
+        } finally {
+            MDC.remove(SQL_STATEMENTS);
+            MDC.remove(SQL_TIME_MS);
+            MDC.remove(REQUEST_TIME_MS);
+            MDC.remove(SQL_FINGERPRINTS);
+        }
+    }
+
+    // "2x select ...; 1x insert ..."
+    private static String fingerprints(final Recording recording) {
+        return recording.fingerprints().entrySet().stream()
+                .map(entry -> entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,24 @@
+package com.hostfully.app.shared.sql;
+
+import java.util.regex.Pattern;
+
+// Statement text with the literals replaced by ? and the whitespace collapsed, so the same query logs the same way
+// whatever its values. Lists of placeholders are folded: IN (?, ?, ?) becomes IN (?...).
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {}
+
+    public static String of(final String sql) {
+        if (sql == null) return "?";
+
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        return PLACEHOLDER_LIST.matcher(fingerprint).replaceAll("(?...)");
+    }
+}
@@ -0,0 +1,66 @@
+package com.hostfully.app.shared.sql;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Statements run by the current thread while a recording is open. SqlBudgetFilter opens one per request, tests can
+// open their own around a use case to pin its statement count.
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {}
+
+    public static Recording start() {
+        final Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void record(final String sql, final long nanos) {
+        final Recording recording = CURRENT.get();
+        if (recording != null) recording.add(sql, nanos);
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final Recording previous;
+        // Keyed by the statement text, fingerprints are only computed when asked for
+        private final Map<String, Integer> executions = new LinkedHashMap<>();
+        private int statements;
+        private long nanos;
+
+        private Recording(final Recording previous) {
+            this.previous = previous;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public Duration elapsed() {
+            return Duration.ofNanos(nanos);
+        }
+
+        // Executions per fingerprint, in first execution order
+        public Map<String, Integer> fingerprints() {
+            final Map<String, Integer> fingerprints = new LinkedHashMap<>();
+            executions.forEach((sql, count) -> fingerprints.merge(SqlFingerprint.of(sql), count, Integer::sum));
+            return fingerprints;
+        }
+
+        // Back to the enclosing recording, which also counts the statements of this one
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) CURRENT.set(previous);
+        }
+
+        private void add(final String sql, final long nanos) {
+            statements++;
+            this.nanos += nanos;
+            executions.merge(sql == null ? "?" : sql, 1, Integer::sum);
+            if (previous != null) previous.add(sql, nanos);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.hostfully.app.shared.sql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Times the statements run on the connections it hands out. Statements slower than slowStatement are logged with
+// their fingerprint, and inside a SqlStatementRecorder recording every execution is counted. unwrap reaches the pool
+// (metrics, AdaptivePoolSizer) through it.
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementCountingDataSource.class);
+
+    private final long slowStatementNanos;
+
+    public StatementCountingDataSource(final DataSource target, final Duration slowStatement) {
+        super(target);
+        this.slowStatementNanos = slowStatement.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> connection;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Timed " + connection;
+                    case "createStatement" ->
+                        wrap((Statement) invoke(connection, method, args), Statement.class, null, (Connection) proxy);
+                    case "prepareStatement" ->
+                        wrap(
+                                (Statement) invoke(connection, method, args),
+                                PreparedStatement.class,
+                                (String) args[0],
+                                (Connection) proxy);
+                    case "prepareCall" ->
+                        wrap(
+                                (Statement) invoke(connection, method, args),
+                                CallableStatement.class,
+                                (String) args[0],
+                                (Connection) proxy);
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private Statement wrap(
+            final Statement statement,
+            final Class<? extends Statement> type,
+            final String preparedSql,
+            final Connection connection) {
+        return (Statement) Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                    final String name = method.getName();
+                    if (name.equals("getConnection")) return connection;
+                    if (name.equals("equals")) return proxy == args[0];
+                    if (name.equals("hashCode")) return System.identityHashCode(proxy);
+                    if (!name.startsWith("execute")) return invoke(statement, method, args);
+
+                    // Plain statements carry their SQL in the execute call, prepared ones got it when prepared
+                    final String sql = args != null && args.length > 0 && args[0] instanceof String text
+                            ? text
+                            : preparedSql;
+                    final long startedAt = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        timed(sql, System.nanoTime() - startedAt);
+                    }
+                });
+    }
+
+    private void timed(final String sql, final long nanos) {
+        SqlStatementRecorder.record(sql, nanos);
+        if (nanos > slowStatementNanos)
+            log.warn("Slow SQL statement, {} ms: {}", Math.round(nanos / 1_000_000.0), SqlFingerprint.of(sql));
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
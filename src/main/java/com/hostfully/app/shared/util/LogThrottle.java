@@ -0,0 +1,60 @@
+package com.hostfully.app.shared.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public final class LogThrottle {
+
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogThrottle(final int permitsPerWindow, final Duration window) {
+        this(permitsPerWindow, window, System::nanoTime);
+    }
+
+    LogThrottle(final int permitsPerWindow, final Duration window, final LongSupplier clock) {
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public boolean tryAcquire(final String key) {
+        final long now = clock.getAsLong();
+        final Window window = windows.computeIfAbsent(key, k -> new Window(now));
+
+        if (now - window.startedAt >= windowNanos) {
+            synchronized (window) {
+                if (now - window.startedAt >= windowNanos) {
+                    window.startedAt = now;
+                    window.used.set(0);
+                }
+            }
+        }
+
+        if (window.used.incrementAndGet() <= permitsPerWindow) return true;
+
+        window.suppressed.incrementAndGet();
+        return false;
+    }
+
+    // Number of events dropped for the key since the last call, so the next permitted line can report them
+    public long drainSuppressed(final String key) {
+        final Window window = windows.get(key);
+        return window == null ? 0 : window.suppressed.getAndSet(0);
+    }
+
+    private static final class Window {
+        private volatile long startedAt;
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(final long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -1,19 +1,124 @@
 package com.hostfully.app.shared.util;
 
-import com.soundicly.jnanoidenhanced.jnanoid.NanoIdUtils;
+import jakarta.annotation.PreDestroy;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class NanoIdGenerator {
 
+    // URL-safe NanoId alphabet, 64 symbols so every random byte maps to a symbol with a mask, without bias
+    private static final char[] ALPHABET =
+            "_-0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    // Same symbols in ASCII order, so time-ordered ids also sort as strings, and in the external_id indexes as long as
+    // they compare bytes (COLLATE "C" in db/postgres)
+    private static final char[] SORTED_ALPHABET =
+            "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    // 7 symbols = 42 bits of milliseconds since 2025-01-01, enough for ~139 years
+    static final int TIME_PREFIX_SIZE = 7;
+    static final long TIME_EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    // Fallback when the pool is disabled or drained, one generator per thread instead of a shared SecureRandom
+    private static final ThreadLocal<SecureRandom> LOCAL_RANDOM = ThreadLocal.withInitial(NanoIdGenerator::newRandom);
+
     private final Integer keySize;
+    private final Strategy strategy;
+    private final NanoIdPool pool;
 
-    public NanoIdGenerator(@Value("${nanoid.key.size}") final Integer keySize) {
+    public NanoIdGenerator(
+            @Value("${nanoid.key.size}") final Integer keySize,
+            @Value("${nanoid.pool.size:0}") final int poolSize,
+            @Value("${nanoid.strategy:random}") final String strategy) {
         this.keySize = keySize;
+        this.strategy = Strategy.fromString(strategy);
+
+        if (this.strategy == Strategy.TIME_ORDERED && keySize < TIME_PREFIX_SIZE + 4)
+            throw new IllegalArgumentException("Time-ordered ids need at least " + (TIME_PREFIX_SIZE + 4) + " symbols");
+
+        // Pre-generated ids would carry the time they were generated at, so the pool only serves random ids
+        this.pool = poolSize > 0 && this.strategy == Strategy.RANDOM
+                ? new NanoIdPool(poolSize, randomIdSource(keySize))
+                : null;
     }
 
     public String generateId() {
-        return NanoIdUtils.randomNanoId(keySize);
+        if (strategy == Strategy.TIME_ORDERED)
+            return timeOrderedId(LOCAL_RANDOM.get(), keySize, System.currentTimeMillis());
+
+        final String id = pool != null ? pool.poll() : null;
+        return id != null ? id : randomId(LOCAL_RANDOM.get(), keySize);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pool != null) pool.close();
+    }
+
+    static String randomId(final Random random, final int size) {
+        final byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+
+        final char[] id = new char[size];
+        for (int i = 0; i < size; i++) id[i] = ALPHABET[bytes[i] & 63];
+
+        return new String(id);
+    }
+
+    // Time prefix (big-endian base 64) followed by random symbols, like ULID/KSUID but fitting VARCHAR(12)
+    static String timeOrderedId(final Random random, final int size, final long epochMillis) {
+        final byte[] bytes = new byte[size - TIME_PREFIX_SIZE];
+        random.nextBytes(bytes);
+
+        final char[] id = new char[size];
+        long time = epochMillis - TIME_EPOCH_MILLIS;
+        for (int i = TIME_PREFIX_SIZE - 1; i >= 0; i--) {
+            id[i] = SORTED_ALPHABET[(int) (time & 63)];
+            time >>>= 6;
+        }
+        for (int i = 0; i < bytes.length; i++) id[TIME_PREFIX_SIZE + i] = SORTED_ALPHABET[bytes[i] & 63];
+
+        return new String(id);
+    }
+
+    // The refill thread is the only user of this SecureRandom
+    private static Supplier<String> randomIdSource(final int size) {
+        final SecureRandom random = newRandom();
+        return () -> randomId(random, size);
+    }
+
+    // new SecureRandom() is NativePRNG on Linux, whose nextBytes goes through one lock for the whole JVM: per-thread
+    // instances would still queue there. DRBG only locks the instance (SecureRandomAlgorithmBenchmark compares them)
+    static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("DRBG SecureRandom is not available", ex);
+        }
+    }
+
+    public enum Strategy {
+        RANDOM("random"),
+        TIME_ORDERED("time-ordered");
+
+        private final String value;
+
+        Strategy(final String value) {
+            this.value = value;
+        }
+
+        public static Strategy fromString(final String value) {
+            return Arrays.stream(Strategy.values())
+                    .filter(e -> e.value.equalsIgnoreCase(value) || e.name().equalsIgnoreCase(value))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid NanoId strategy: " + value));
+        }
     }
 }
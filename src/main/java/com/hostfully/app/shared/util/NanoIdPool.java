@@ -0,0 +1,101 @@
+package com.hostfully.app.shared.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Bounded lock-free ring of pre-generated ids. A single background thread fills it from the source, request
+// threads take from it with a CAS on the head (slot sequence numbers as in Vyukov's bounded MPMC queue) and never
+// block: poll returns null when the ring runs dry.
+public final class NanoIdPool implements AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = 50_000_000L;
+
+    private final int mask;
+    private final AtomicReferenceArray<String> ids;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final int lowWaterMark;
+    private final Supplier<String> source;
+    private final Thread refiller;
+
+    private volatile boolean running = true;
+
+    public NanoIdPool(final int capacity, final Supplier<String> source) {
+        if (capacity < 2) throw new IllegalArgumentException("Pool capacity must be at least 2");
+
+        final int size = 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.mask = size - 1;
+        this.ids = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+
+        this.lowWaterMark = size / 2;
+        this.source = source;
+        this.refiller = Thread.ofPlatform()
+                .name("nanoid-pool-refill")
+                .daemon(true)
+                .unstarted(this::refill);
+        this.refiller.start();
+    }
+
+    public String poll() {
+        long pos = head.get();
+        for (; ; ) {
+            final int index = (int) (pos & mask);
+            final long delta = sequences.get(index) - (pos + 1);
+
+            if (delta == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    final String id = ids.get(index);
+                    ids.lazySet(index, null);
+                    sequences.set(index, pos + mask + 1);
+
+                    if (available() < lowWaterMark) LockSupport.unpark(refiller);
+                    return id;
+                }
+                pos = head.get();
+            } else if (delta < 0) {
+                LockSupport.unpark(refiller);
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    public int available() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(refiller);
+    }
+
+    private void refill() {
+        while (running) {
+            while (running && hasFreeSlot()) offer(source.get());
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+    }
+
+    // Only the refill thread writes the tail, so publishing a slot needs no CAS
+    private boolean hasFreeSlot() {
+        final long pos = tail.get();
+        return sequences.get((int) (pos & mask)) == pos;
+    }
+
+    private void offer(final String id) {
+        final long pos = tail.get();
+        final int index = (int) (pos & mask);
+
+        ids.lazySet(index, id);
+        sequences.set(index, pos + 1);
+        tail.set(pos + 1);
+    }
+}
@@ -0,0 +1,20 @@
+package com.hostfully.app.shared.util;
+
+import java.sql.SQLException;
+
+// Recognizes the rejection of the bookings exclusion constraint (PostgreSQL profile), SQLSTATE 23P01
+// exclusion_violation, wherever it sits in the cause chain of the exception Hibernate or Spring wrapped it in
+public final class OverlapConstraint {
+
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
+    private OverlapConstraint() {}
+
+    public static boolean isViolatedBy(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) return true;
+            if (cause.getCause() == cause) break;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hostfully.app.shared.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Strong entity tags derived from the @Version column, e.g. version 3 is "3"
+public final class VersionETag {
+
+    private VersionETag() {}
+
+    public static String of(final Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    // Versions an If-Match header asks for, any of them matches (RFC 9110, 13.1.1): null when absent or when one of
+    // the tags is "*". Weak and malformed tags can't be one of ours and are left out, so a header made only of them
+    // gives an empty set that no version matches
+    public static Set<Long> parseIfMatch(final String header) {
+        if (header == null || header.isBlank()) return null;
+
+        final Set<Long> versions = new HashSet<>();
+        for (final String part : header.split(",")) {
+            final String tag = part.trim();
+            if ("*".equals(tag)) return null;
+            if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) continue;
+
+            try {
+                versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+            } catch (NumberFormatException ex) {
+                // Not a version tag
+            }
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,127 @@
+package com.hostfully.app.availability.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.hostfully.app.block.usecase.UpdateBlock;
+import com.hostfully.app.block.usecase.UpdateBlock.UpdateBlockCommand;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
+import com.hostfully.app.infra.entity.BlockEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class AvailabilityStreamControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private UpdateBlock updateBlock;
+
+    @Test
+    @DisplayName("GET /properties/{id}/availability/stream - pushes the changes of the property")
+    void streamPropertyChanges() throws Exception {
+        final MvcResult result = mvc.perform(get("/v1/properties/PROP-STREAM-1/availability/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        invalidationBus.publish(CacheInvalidation.booking("booking-other", "PROP-STREAM-2"));
+        invalidationBus.publish(CacheInvalidation.booking("booking-1", "PROP-STREAM-1"));
+
+        final String content = awaitContent(result, "booking-1");
+        Assertions.assertThat(result.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        Assertions.assertThat(content)
+                .contains("event:availability-changed")
+                .contains("booking-1")
+                .doesNotContain("booking-other");
+    }
+
+    @Test
+    @DisplayName("GET /availability/stream - pushes the changes of every property requested on one stream")
+    void streamMultipleProperties() throws Exception {
+        final MvcResult result = mvc.perform(get("/v1/availability/stream")
+                        .param("properties", "PROP-STREAM-3,PROP-STREAM-4")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        invalidationBus.publish(CacheInvalidation.booking("booking-3", "PROP-STREAM-3"));
+        invalidationBus.publish(CacheInvalidation.block("block-4", "PROP-STREAM-4"));
+
+        final String content = awaitContent(result, "block-4");
+        Assertions.assertThat(content).contains("booking-3");
+    }
+
+    @Test
+    @DisplayName("GET /properties/{id}/availability/stream - pushes a block moved away from the property")
+    void streamBlockMovedAway() throws Exception {
+        final PropertyEntity from = propertyRepository.save(new PropertyEntity("PROP-MOVE-1", "Beach House", "Beach"));
+        final PropertyEntity to = propertyRepository.save(new PropertyEntity("PROP-MOVE-2", "Lake House", "Lake"));
+        final LocalDate start = LocalDate.now().plusDays(10);
+        blockRepository.save(new BlockEntity("block-move", from, "Maintenance", start, start.plusDays(2)));
+        try {
+            final MvcResult result = mvc.perform(get("/v1/properties/PROP-MOVE-1/availability/stream")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            updateBlock.execute(
+                    new UpdateBlockCommand("block-move", "PROP-MOVE-2", "Maintenance", start, start.plusDays(2)));
+
+            Assertions.assertThat(awaitContent(result, "block-move"))
+                    .contains("event:availability-changed")
+                    .contains("PROP-MOVE-1");
+        } finally {
+            blockRepository.deleteByExternalId("block-move");
+            propertyRepository.deleteAll(List.of(from, to));
+        }
+    }
+
+    @Test
+    @DisplayName("GET /availability/stream - bad request, when too many properties are requested")
+    void streamTooManyProperties() throws Exception {
+        final String properties =
+                IntStream.rangeClosed(0, 500).mapToObj(i -> "PROP-" + i).collect(Collectors.joining(","));
+
+        mvc.perform(get("/v1/availability/stream").param("properties", properties))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String awaitContent(final MvcResult result, final String expected) throws Exception {
+        final long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,210 @@
+package com.hostfully.app.availability.index;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.OccupancyView;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class AvailabilityIndexTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @TempDir
+    private Path directory;
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BlockRepository blockRepository = mock(BlockRepository.class);
+
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 31);
+
+    @Test
+    @DisplayName("should rebuild from the tables, when there is no snapshot")
+    void shouldRebuildWithoutSnapshot() {
+        final Long last = saveEvent(AggregateType.BLOCK, "block-9", EventType.DELETED, null);
+        saveEvent(AggregateType.BLOCK, "block-8", EventType.DELETED, null, Duration.ZERO);
+        when(bookingRepository.findConfirmedOccupancy()).thenReturn(List.of(view("booking-1", 5, 9)));
+        when(blockRepository.findOccupancy()).thenReturn(List.of(view("block-1", 12, 14)));
+        final AvailabilityIndex subject = buildIndex();
+
+        subject.load();
+
+        Assertions.assertThat(subject.occupied("PROP-0001", from, to))
+                .extracting(Occupancy::id, Occupancy::type)
+                .containsExactly(
+                        Assertions.tuple("booking-1", AggregateType.BOOKING),
+                        Assertions.tuple("block-1", AggregateType.BLOCK));
+        // Events still settling are replayed later, whatever the tables already showed
+        Assertions.assertThat(subject.sequence()).isEqualTo(last);
+    }
+
+    @Test
+    @DisplayName("should load the snapshot and replay only the events after its sequence")
+    void shouldReplayAfterSnapshot() {
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.CREATED, booking(5, 9, "CONFIRMED"));
+        when(bookingRepository.findConfirmedOccupancy()).thenReturn(List.of(view("booking-1", 5, 9)));
+        final AvailabilityIndex first = buildIndex();
+        first.load();
+        first.snapshot();
+
+        saveEvent(AggregateType.BOOKING, "booking-2", EventType.CREATED, booking(10, 12, "CONFIRMED"));
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.CANCELLED, booking(5, 9, "CANCELLED"));
+        final AvailabilityIndex subject = buildIndex();
+        subject.load();
+
+        Assertions.assertThat(subject.occupied("PROP-0001", from, to))
+                .extracting(Occupancy::id)
+                .containsExactly("booking-2");
+        verify(bookingRepository, times(1)).findConfirmedOccupancy();
+    }
+
+    @Test
+    @DisplayName("should apply updates and deletes on refresh")
+    void shouldApplyChangesOnRefresh() {
+        final AvailabilityIndex subject = buildIndex();
+        subject.load();
+        saveEvent(AggregateType.BLOCK, "block-1", EventType.CREATED, block(1, 3));
+        saveEvent(AggregateType.BLOCK, "block-1", EventType.UPDATED, block(4, 6));
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.CREATED, booking(10, 12, "CONFIRMED"));
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.DELETED, null);
+
+        subject.refresh();
+
+        Assertions.assertThat(subject.occupied("PROP-0001", from, to))
+                .extracting(Occupancy::id, Occupancy::startDate)
+                .containsExactly(Assertions.tuple("block-1", LocalDate.of(2025, 1, 4)));
+    }
+
+    @Test
+    @DisplayName("should rebuild, when the snapshot is older than the outbox retention")
+    void shouldRebuildWithStaleSnapshot() throws IOException {
+        final Long last = saveEvent(AggregateType.BLOCK, "block-9", EventType.DELETED, null);
+        new OccupancySnapshot(last, createdAt(last), Instant.now().minus(Duration.ofDays(8)), List.of())
+                .write(directory.resolve("index.snapshot"));
+        final AvailabilityIndex subject = buildIndex();
+
+        subject.load();
+
+        verify(bookingRepository).findConfirmedOccupancy();
+        verify(blockRepository).findOccupancy();
+    }
+
+    @Test
+    @DisplayName("should rebuild, when the snapshot was written from another database")
+    void shouldRebuildWithSnapshotOfAnotherDatabase() throws IOException {
+        final Long last = saveEvent(AggregateType.BLOCK, "block-9", EventType.DELETED, null);
+        final Occupancy ghost = new Occupancy(
+                "PROP-0001", AggregateType.BOOKING, "ghost", LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 9));
+        new OccupancySnapshot(last + 100, Instant.now(), Instant.now(), List.of(ghost))
+                .write(directory.resolve("index.snapshot"));
+        final AvailabilityIndex unknownSequence = buildIndex();
+
+        unknownSequence.load();
+
+        Assertions.assertThat(unknownSequence.occupied("PROP-0001", from, to)).isEmpty();
+        Assertions.assertThat(unknownSequence.sequence()).isEqualTo(last);
+
+        new OccupancySnapshot(last, createdAt(last).minusSeconds(60), Instant.now(), List.of(ghost))
+                .write(directory.resolve("index.snapshot"));
+        final AvailabilityIndex otherEvent = buildIndex();
+
+        otherEvent.load();
+
+        Assertions.assertThat(otherEvent.occupied("PROP-0001", from, to)).isEmpty();
+        verify(bookingRepository, times(2)).findConfirmedOccupancy();
+    }
+
+    @Test
+    @DisplayName("should rebuild, when the snapshot can't be read")
+    void shouldRebuildWithCorruptSnapshot() throws IOException {
+        Files.writeString(directory.resolve("index.snapshot"), "garbage");
+        final AvailabilityIndex subject = buildIndex();
+
+        subject.load();
+
+        verify(bookingRepository).findConfirmedOccupancy();
+        verify(blockRepository).findOccupancy();
+    }
+
+    private AvailabilityIndex buildIndex() {
+        return new AvailabilityIndex(
+                bookingRepository,
+                blockRepository,
+                outboxEventRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                directory.resolve("index.snapshot"),
+                2,
+                Duration.ofSeconds(2),
+                Duration.ofDays(7),
+                new SimpleMeterRegistry());
+    }
+
+    private Long saveEvent(
+            final AggregateType type, final String id, final EventType eventType, final String payload) {
+        return saveEvent(type, id, eventType, payload, Duration.ofMinutes(1));
+    }
+
+    private Long saveEvent(
+            final AggregateType type,
+            final String id,
+            final EventType eventType,
+            final String payload,
+            final Duration age) {
+        return outboxEventRepository
+                .save(new OutboxEventEntity(type, id, "PROP-0001", eventType, payload, Instant.now().minus(age)))
+                .getId();
+    }
+
+    private Instant createdAt(final Long eventId) {
+        return outboxEventRepository
+                .findById(eventId)
+                .orElseThrow()
+                .getCreatedAt()
+                .truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static String booking(final int start, final int end, final String status) {
+        return "{\"startDate\":\"2025-01-%02d\",\"endDate\":\"2025-01-%02d\",\"status\":\"%s\"}"
+                .formatted(start, end, status);
+    }
+
+    private static String block(final int start, final int end) {
+        return "{\"startDate\":\"2025-01-%02d\",\"endDate\":\"2025-01-%02d\"}".formatted(start, end);
+    }
+
+    private static OccupancyView view(final String id, final int start, final int end) {
+        final OccupancyView view = mock(OccupancyView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getPropertyId()).thenReturn("PROP-0001");
+        when(view.getStartDate()).thenReturn(LocalDate.of(2025, 1, start));
+        when(view.getEndDate()).thenReturn(LocalDate.of(2025, 1, end));
+        return view;
+    }
+}
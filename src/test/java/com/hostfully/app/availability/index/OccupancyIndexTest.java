@@ -0,0 +1,59 @@
+package com.hostfully.app.availability.index;
+
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import java.time.LocalDate;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class OccupancyIndexTest {
+
+    private final OccupancyIndex subject = new OccupancyIndex();
+
+    @Test
+    @DisplayName("should return the occupancies overlapping the range, ordered by start date")
+    void shouldReturnOverlapping() {
+        subject.put(occupancy("PROP-0001", "booking-2", 10, 12));
+        subject.put(occupancy("PROP-0001", "booking-1", 1, 5));
+        subject.put(occupancy("PROP-0001", "booking-3", 20, 25));
+        subject.put(occupancy("PROP-0002", "booking-4", 1, 30));
+
+        Assertions.assertThat(subject.occupied("PROP-0001", day(5), day(10)))
+                .extracting(Occupancy::id)
+                .containsExactly("booking-1", "booking-2");
+    }
+
+    @Test
+    @DisplayName("should keep one entry per id, moving it when its property changes")
+    void shouldReplaceById() {
+        subject.put(occupancy("PROP-0001", "booking-1", 1, 5));
+        subject.put(occupancy("PROP-0001", "booking-1", 1, 5));
+        subject.put(occupancy("PROP-0002", "booking-1", 3, 8));
+
+        Assertions.assertThat(subject.size()).isEqualTo(1);
+        Assertions.assertThat(subject.occupied("PROP-0001", day(1), day(31))).isEmpty();
+        Assertions.assertThat(subject.occupied("PROP-0002", day(1), day(31)))
+                .extracting(Occupancy::startDate)
+                .containsExactly(day(3));
+    }
+
+    @Test
+    @DisplayName("should forget removed ids and ignore unknown ones")
+    void shouldRemove() {
+        subject.put(occupancy("PROP-0001", "booking-1", 1, 5));
+
+        subject.remove("booking-1");
+        subject.remove("booking-unknown");
+
+        Assertions.assertThat(subject.size()).isZero();
+        Assertions.assertThat(subject.all()).isEmpty();
+    }
+
+    private static Occupancy occupancy(final String propertyId, final String id, final int start, final int end) {
+        return new Occupancy(propertyId, AggregateType.BOOKING, id, day(start), day(end));
+    }
+
+    private static LocalDate day(final int dayOfMonth) {
+        return LocalDate.of(2025, 1, dayOfMonth);
+    }
+}
@@ -0,0 +1,98 @@
+package com.hostfully.app.availability.index;
+
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OccupancySnapshotTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("should read back the entries and sequence it was written with")
+    void shouldRoundTrip() throws IOException {
+        final Path path = directory.resolve("index.snapshot");
+        final OccupancySnapshot snapshot = new OccupancySnapshot(
+                42L,
+                Instant.now().minusSeconds(5).truncatedTo(ChronoUnit.MILLIS),
+                Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                List.of(
+                        new Occupancy(
+                                "PROP-0001",
+                                AggregateType.BOOKING,
+                                "booking-1",
+                                LocalDate.of(2025, 1, 5),
+                                LocalDate.of(2025, 1, 9)),
+                        new Occupancy(
+                                "PROP-ção",
+                                AggregateType.BLOCK,
+                                "block-1",
+                                LocalDate.of(2025, 2, 1),
+                                LocalDate.of(2025, 2, 1))));
+
+        snapshot.write(path);
+
+        Assertions.assertThat(OccupancySnapshot.read(path)).contains(snapshot);
+        Assertions.assertThat(path.resolveSibling("index.snapshot.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("should replace the previous snapshot")
+    void shouldReplacePreviousSnapshot() throws IOException {
+        final Path path = directory.resolve("index.snapshot");
+        new OccupancySnapshot(1L, Instant.now(), Instant.now(), List.of(occupancy("booking-1"))).write(path);
+
+        new OccupancySnapshot(2L, Instant.now(), Instant.now(), List.of()).write(path);
+
+        final OccupancySnapshot read = OccupancySnapshot.read(path).orElseThrow();
+        Assertions.assertThat(read.sequence()).isEqualTo(2L);
+        Assertions.assertThat(read.entries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should read back a snapshot taken before any event")
+    void shouldRoundTripWithoutEvent() throws IOException {
+        final Path path = directory.resolve("index.snapshot");
+        final OccupancySnapshot snapshot =
+                new OccupancySnapshot(0L, null, Instant.now().truncatedTo(ChronoUnit.MILLIS), List.of());
+
+        snapshot.write(path);
+
+        Assertions.assertThat(OccupancySnapshot.read(path)).contains(snapshot);
+    }
+
+    @Test
+    @DisplayName("should return empty, when there is no snapshot yet")
+    void shouldReturnEmptyWhenMissing() throws IOException {
+        Assertions.assertThat(OccupancySnapshot.read(directory.resolve("missing.snapshot"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should throw IOException, when the file isn't a snapshot or is truncated")
+    void shouldRejectCorruptFile() throws IOException {
+        final Path path = directory.resolve("index.snapshot");
+        Files.writeString(path, "not a snapshot");
+        Assertions.assertThatThrownBy(() -> OccupancySnapshot.read(path)).isInstanceOf(IOException.class);
+
+        new OccupancySnapshot(1L, Instant.now(), Instant.now(), List.of(occupancy("booking-1"))).write(path);
+        final byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length - 3));
+        Assertions.assertThatThrownBy(() -> OccupancySnapshot.read(path)).isInstanceOf(IOException.class);
+    }
+
+    private static Occupancy occupancy(final String id) {
+        return new Occupancy(
+                "PROP-0001", AggregateType.BOOKING, id, LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 9));
+    }
+}
@@ -3,17 +3,27 @@ package com.hostfully.app.availability.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.hostfully.app.availability.domain.StayRange;
+import com.hostfully.app.infra.entity.BlockEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.infra.repository.BlockRepository;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.OccupancyView;
+import com.hostfully.app.infra.repository.PropertyRepository;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 class AvailabilityServiceTest {
 
+    private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
     private final BlockRepository blockRepository = mock(BlockRepository.class);
     private final BookingRepository bookingRepository = mock(BookingRepository.class);
-    private final AvailabilityService availabilityService = new AvailabilityService(blockRepository, bookingRepository);
+    private final AvailabilityService availabilityService =
+            new AvailabilityService(propertyRepository, blockRepository, bookingRepository, false);
 
     private final String property = "prop-001";
     private final LocalDate startDate = LocalDate.of(2025, 1, 1);
@@ -48,6 +58,23 @@ class AvailabilityServiceTest {
         when(blockRepository.hasOverlapping(property, startDate, endDate)).thenReturn(true);
 
         assertFalse(availabilityService.canBook(startDate, endDate, property, bookingId));
+        // Blocks created on another node may not have reached this node's second-level cache yet
+        verifyNoInteractions(propertyRepository);
+    }
+
+    @Test
+    @DisplayName("should leave the booking overlap to the database and still check blocks when it enforces it")
+    void shouldSkipBookingOverlapWhenEnforcedByDatabase() {
+        final AvailabilityService enforcedByDatabase =
+                new AvailabilityService(propertyRepository, blockRepository, bookingRepository, true);
+        when(blockRepository.hasOverlapping(property, startDate, endDate)).thenReturn(false);
+
+        assertTrue(enforcedByDatabase.canBook(startDate, endDate, property, bookingId));
+
+        when(blockRepository.hasOverlapping(property, startDate, endDate)).thenReturn(true);
+
+        assertFalse(enforcedByDatabase.canBook(startDate, endDate, property, bookingId));
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
@@ -67,4 +94,49 @@ class AvailabilityServiceTest {
 
         assertFalse(availabilityService.canBlock(startDate, endDate, property));
     }
+
+    @Test
+    @DisplayName("should answer every candidate stay from one read of the bookings over their span")
+    void shouldCheckAllStays() {
+        final OccupancyView booking = booking(startDate.plusDays(2), startDate.plusDays(4));
+        when(bookingRepository.findConfirmedOccupancy(property, startDate, endDate.plusDays(5)))
+                .thenReturn(List.of(booking));
+        when(propertyRepository.findByExternalId(property)).thenReturn(withBlock(endDate, endDate.plusDays(1)));
+
+        final List<Boolean> available = availabilityService.canBookAll(
+                property,
+                List.of(
+                        new StayRange(startDate, startDate.plusDays(1)),
+                        new StayRange(startDate.plusDays(1), startDate.plusDays(3)),
+                        new StayRange(startDate.plusDays(5), endDate.minusDays(1)),
+                        new StayRange(endDate.minusDays(1), endDate),
+                        new StayRange(endDate.plusDays(2), endDate.plusDays(5))));
+
+        assertEquals(List.of(true, false, true, false, true), available);
+        verify(bookingRepository, times(1)).findConfirmedOccupancy(any(), any(), any());
+        verify(bookingRepository, never()).hasOverlapping(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should throw PropertyNotFoundException, when checking stays of an unknown property")
+    void shouldThrowWhenCheckingStaysOfUnknownProperty() {
+        when(propertyRepository.findByExternalId(property)).thenReturn(Optional.empty());
+
+        assertThrows(
+                PropertyNotFoundException.class,
+                () -> availabilityService.canBookAll(property, List.of(new StayRange(startDate, endDate))));
+    }
+
+    private Optional<PropertyEntity> withBlock(final LocalDate blockStart, final LocalDate blockEnd) {
+        final PropertyEntity propertyEntity = new PropertyEntity(property, "description", "alias");
+        propertyEntity.getBlocks().add(new BlockEntity("block-1", propertyEntity, "Maintenance", blockStart, blockEnd));
+        return Optional.of(propertyEntity);
+    }
+
+    private OccupancyView booking(final LocalDate bookingStart, final LocalDate bookingEnd) {
+        final OccupancyView booking = mock(OccupancyView.class);
+        when(booking.getStartDate()).thenReturn(bookingStart);
+        when(booking.getEndDate()).thenReturn(bookingEnd);
+        return booking;
+    }
 }
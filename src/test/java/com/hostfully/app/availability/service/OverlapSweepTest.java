@@ -0,0 +1,67 @@
+package com.hostfully.app.availability.service;
+
+import com.hostfully.app.availability.domain.StayRange;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OverlapSweepTest {
+
+    private final LocalDate day = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("should tell apart the free candidates from the ones touching an occupied range")
+    void shouldFindFreeCandidates() {
+        final List<StayRange> occupied = List.of(range(10, 12), range(20, 25));
+        final List<StayRange> candidates = List.of(
+                range(1, 9), range(5, 10), range(12, 15), range(13, 19), range(21, 22), range(18, 30), range(26, 28));
+
+        Assertions.assertThat(OverlapSweep.free(candidates, occupied))
+                .containsExactly(true, false, false, true, false, false, true);
+    }
+
+    @Test
+    @DisplayName("should find every candidate free when nothing is occupied, and none when everything is")
+    void shouldHandleEmptyAndFullOccupancy() {
+        final List<StayRange> candidates = List.of(range(1, 3), range(4, 8));
+
+        Assertions.assertThat(OverlapSweep.free(candidates, List.of())).containsExactly(true, true);
+        Assertions.assertThat(OverlapSweep.free(candidates, List.of(range(0, 30))))
+                .containsExactly(false, false);
+        Assertions.assertThat(OverlapSweep.free(List.of(), List.of(range(0, 30)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should answer like checking every candidate against every occupied range")
+    void shouldMatchPairwiseCheck() {
+        final Random random = new Random(42);
+        final List<StayRange> occupied = new ArrayList<>();
+        final List<StayRange> candidates = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int start = random.nextInt(365);
+            occupied.add(range(start, start + random.nextInt(10)));
+        }
+        for (int i = 0; i < 500; i++) {
+            final int start = random.nextInt(365);
+            candidates.add(range(start, start + 1 + random.nextInt(14)));
+        }
+
+        final boolean[] free = OverlapSweep.free(candidates, occupied);
+
+        for (int i = 0; i < candidates.size(); i++) {
+            final StayRange candidate = candidates.get(i);
+            final boolean expected = occupied.stream()
+                    .noneMatch(range -> !range.startDate().isAfter(candidate.endDate())
+                            && !range.endDate().isBefore(candidate.startDate()));
+            Assertions.assertThat(free[i]).as("candidate %s", candidate).isEqualTo(expected);
+        }
+    }
+
+    private StayRange range(final int startDay, final int endDay) {
+        return new StayRange(day.plusDays(startDay), day.plusDays(endDay));
+    }
+}
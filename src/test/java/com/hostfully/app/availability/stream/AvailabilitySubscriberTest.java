@@ -0,0 +1,93 @@
+package com.hostfully.app.availability.stream;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class AvailabilitySubscriberTest {
+
+    private static final Duration HEARTBEAT = Duration.ofMillis(10);
+
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final AvailabilitySubscriber subject = new AvailabilitySubscriber(emitter, Set.of("PROP-0001"), 2);
+
+    @Test
+    @DisplayName("should send buffered changes as availability-changed events, in order")
+    void shouldSendChanges() {
+        subject.offer(change("booking-1"));
+        subject.offer(change("block-1"));
+
+        Assertions.assertThat(subject.deliverNext(HEARTBEAT)).isTrue();
+        Assertions.assertThat(subject.deliverNext(HEARTBEAT)).isTrue();
+
+        Assertions.assertThat(emitter.events).hasSize(2);
+        Assertions.assertThat(emitter.events.get(0))
+                .contains("event:" + AvailabilitySubscriber.CHANGE_EVENT)
+                .contains("booking-1");
+        Assertions.assertThat(emitter.events.get(1)).contains("block-1");
+    }
+
+    @Test
+    @DisplayName("should send a heartbeat when no change arrives within the interval")
+    void shouldSendHeartbeat() {
+        Assertions.assertThat(subject.deliverNext(HEARTBEAT)).isTrue();
+
+        Assertions.assertThat(emitter.events).singleElement().asString().contains(AvailabilitySubscriber.HEARTBEAT);
+    }
+
+    @Test
+    @DisplayName("should drop the buffered changes and send a single resync event when the buffer overflows")
+    void shouldResyncOnOverflow() {
+        subject.offer(change("booking-1"));
+        subject.offer(change("booking-2"));
+        subject.offer(change("booking-3"));
+
+        subject.deliverNext(HEARTBEAT);
+        subject.deliverNext(HEARTBEAT);
+
+        Assertions.assertThat(emitter.events).hasSize(2);
+        Assertions.assertThat(emitter.events.get(0))
+                .contains("event:" + AvailabilitySubscriber.RESYNC_EVENT)
+                .contains("PROP-0001");
+        Assertions.assertThat(emitter.events.get(1)).contains(AvailabilitySubscriber.HEARTBEAT);
+    }
+
+    @Test
+    @DisplayName("should stop once the client went away or the stream was closed")
+    void shouldStopWhenClosed() {
+        emitter.failing = true;
+        Assertions.assertThat(subject.deliverNext(HEARTBEAT)).isFalse();
+
+        emitter.failing = false;
+        Assertions.assertThat(subject.close()).isTrue();
+        Assertions.assertThat(subject.close()).isFalse();
+        Assertions.assertThat(subject.deliverNext(HEARTBEAT)).isFalse();
+    }
+
+    private static AvailabilityChange change(final String id) {
+        return new AvailabilityChange("PROP-0001", "BOOKING", id, Instant.now());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(final SseEventBuilder builder) throws IOException {
+            if (failing) throw new IOException("Broken pipe");
+
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
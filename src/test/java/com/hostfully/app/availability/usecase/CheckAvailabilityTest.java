@@ -0,0 +1,45 @@
+package com.hostfully.app.availability.usecase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hostfully.app.availability.domain.StayAvailability;
+import com.hostfully.app.availability.domain.StayRange;
+import com.hostfully.app.availability.service.AvailabilityService;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class CheckAvailabilityTest {
+
+    private final AvailabilityService availabilityService = mock(AvailabilityService.class);
+    private final CheckAvailability subject = new CheckAvailability(availabilityService);
+
+    private final LocalDate day = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("should return the availability of every stay, in the order they were asked")
+    void shouldReturnAvailabilityOfEveryStay() {
+        final List<StayRange> stays = List.of(new StayRange(day, day.plusDays(3)), new StayRange(day, day.plusDays(7)));
+        when(availabilityService.canBookAll("PROP-0001", stays)).thenReturn(List.of(true, false));
+
+        Assertions.assertThat(subject.execute("PROP-0001", stays))
+                .containsExactly(
+                        new StayAvailability(day, day.plusDays(3), true),
+                        new StayAvailability(day, day.plusDays(7), false));
+    }
+
+    @Test
+    @DisplayName("should throw InvalidDateRangeException, when a stay doesn't end after it starts")
+    void shouldThrowInvalidDateRangeException() {
+        final List<StayRange> stays = List.of(new StayRange(day, day.plusDays(3)), new StayRange(day, day));
+
+        Assertions.assertThatThrownBy(() -> subject.execute("PROP-0001", stays))
+                .isInstanceOf(InvalidDateRangeException.class);
+        verifyNoInteractions(availabilityService);
+    }
+}
@@ -0,0 +1,46 @@
+package com.hostfully.app.availability.usecase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hostfully.app.availability.index.AvailabilityIndex;
+import com.hostfully.app.availability.index.Occupancy;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class GetOccupancyTest {
+
+    private final AvailabilityIndex availabilityIndex = mock(AvailabilityIndex.class);
+    private final GetOccupancy subject = new GetOccupancy(availabilityIndex);
+
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 31);
+
+    @Test
+    @DisplayName("should return the occupancy of the property from the index")
+    void shouldReturnOccupancy() {
+        final Occupancy occupancy = new Occupancy(
+                "PROP-0001", AggregateType.BOOKING, "booking-1", LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 9));
+        when(availabilityIndex.occupied("PROP-0001", from, to)).thenReturn(List.of(occupancy));
+
+        Assertions.assertThat(subject.execute("PROP-0001", from, to)).containsExactly(occupancy);
+    }
+
+    @Test
+    @DisplayName("should accept a single day range")
+    void shouldAcceptSingleDay() {
+        Assertions.assertThat(subject.execute("PROP-0001", from, from)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should throw InvalidDateRangeException, when the range ends before it starts")
+    void shouldThrowInvalidDateRangeException() {
+        Assertions.assertThatThrownBy(() -> subject.execute("PROP-0001", to, from))
+                .isInstanceOf(InvalidDateRangeException.class);
+    }
+}
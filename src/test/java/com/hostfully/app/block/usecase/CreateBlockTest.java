@@ -9,6 +9,7 @@ import com.hostfully.app.block.domain.Block;
 import com.hostfully.app.block.exceptions.BlockGenericException;
 import com.hostfully.app.block.exceptions.OverlapBlockException;
 import com.hostfully.app.block.usecase.CreateBlock.CreateBlockCommand;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BlockEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
@@ -16,6 +17,7 @@ import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.infra.repository.BlockRepository;
 import com.hostfully.app.infra.repository.PropertyRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.outbox.OutboxService;
 import com.hostfully.app.shared.util.NanoIdGenerator;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -44,8 +46,17 @@ public class CreateBlockTest {
     private final IdempotencyService idempotencyService = mock(IdempotencyService.class);
     private final AvailabilityService availabilityService = mock(AvailabilityService.class);
 
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+
     private final CreateBlock subject = new CreateBlock(
-            blockRepository, propertyRepository, nanoIdGenerator, idempotencyService, availabilityService);
+            blockRepository,
+            propertyRepository,
+            nanoIdGenerator,
+            idempotencyService,
+            availabilityService,
+            invalidationBus,
+            outboxService);
 
     @BeforeEach
     public void setup() {
@@ -3,7 +3,12 @@ package com.hostfully.app.block.usecase;
 import static org.mockito.Mockito.*;
 
 import com.hostfully.app.block.exceptions.BlockGenericException;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,14 +16,19 @@ import org.junit.jupiter.api.Test;
 public class DeleteBlockTest {
 
     private final BlockRepository blockRepository = mock(BlockRepository.class);
-    private final DeleteBlock subject = new DeleteBlock(blockRepository);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final DeleteBlock subject = new DeleteBlock(blockRepository, invalidationBus, outboxService);
 
     @Test
     @DisplayName("should delete a block, when a ID is provided")
     void shouldDeleteABlock() {
         final String externalId = "a-id-spec";
+        when(blockRepository.findPropertyIdByExternalId(externalId)).thenReturn(Optional.of("PROP-0001"));
         when(blockRepository.deleteByExternalId(externalId)).thenReturn(1);
         Assertions.assertTrue(subject.execute(externalId));
+        verify(invalidationBus).publish(CacheInvalidation.block(externalId, "PROP-0001"));
+        verify(outboxService).deleted(AggregateType.BLOCK, externalId, "PROP-0001");
     }
 
     @Test
@@ -27,6 +37,7 @@ public class DeleteBlockTest {
         final String externalId = "a-id-spec";
         when(blockRepository.deleteByExternalId(externalId)).thenReturn(0);
         Assertions.assertFalse(subject.execute(externalId));
+        verifyNoInteractions(invalidationBus, outboxService);
     }
 
     @Test
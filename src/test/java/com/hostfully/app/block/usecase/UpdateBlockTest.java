@@ -1,17 +1,24 @@
 package com.hostfully.app.block.usecase;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.block.domain.Block;
 import com.hostfully.app.block.exceptions.*;
 import com.hostfully.app.block.usecase.UpdateBlock.UpdateBlockCommand;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BlockEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.infra.repository.BlockRepository;
 import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import java.time.LocalDate;
 import java.util.Optional;
 import org.assertj.core.api.Assertions;
@@ -25,7 +32,11 @@ public class UpdateBlockTest {
     private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
     private final AvailabilityService availabilityService = mock(AvailabilityService.class);
 
-    private final UpdateBlock subject = new UpdateBlock(blockRepository, propertyRepository, availabilityService);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+
+    private final UpdateBlock subject = new UpdateBlock(
+            blockRepository, propertyRepository, availabilityService, invalidationBus, outboxService);
 
     private final LocalDate startDate = LocalDate.of(2025, 1, 15);
     private final LocalDate endDate = LocalDate.of(2025, 1, 16);
@@ -39,7 +50,7 @@ public class UpdateBlockTest {
     void shouldUpdateBlock() {
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(true);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.of(property));
         when(availabilityService.canBlock(startDate, endDate, property)).thenReturn(true);
         when(propertyRepository.findByExternalId(property)).thenReturn(Optional.of(propertyEntity));
         when(blockRepository.updateByExternalId(propertyEntity, reason, startDate, endDate, id))
@@ -57,24 +68,45 @@ public class UpdateBlockTest {
             Assertions.assertThat(block.getEndDate()).isEqualTo(endDate);
         });
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verify(availabilityService, times(1)).canBlock(startDate, endDate, property);
         verify(propertyRepository, times(1)).findByExternalId(property);
         verify(blockRepository, times(1)).updateByExternalId(propertyEntity, reason, startDate, endDate, id);
         verify(blockRepository, times(1)).findByExternalId(id);
     }
 
+    @Test
+    @DisplayName("should publish the change to the previous property too, when the block moves to another property")
+    void shouldPublishChangeToPreviousProperty() {
+        final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
+
+        when(blockRepository.findPropertyIdByExternalId(id)).thenReturn(Optional.of("prop-0"));
+        when(availabilityService.canBlock(startDate, endDate, property)).thenReturn(true);
+        when(propertyRepository.findByExternalId(property)).thenReturn(Optional.of(propertyEntity));
+        when(blockRepository.updateByExternalId(propertyEntity, reason, startDate, endDate, id))
+                .thenReturn(1);
+        when(blockRepository.findByExternalId(id))
+                .thenReturn(Optional.of(buildBlockEntity(id, propertyEntity, reason, startDate, endDate)));
+
+        subject.execute(updateBlockCommand);
+
+        verify(outboxService, times(1)).deleted(AggregateType.BLOCK, id, "prop-0");
+        verify(outboxService, times(1)).blockChanged(eq(EventType.UPDATED), any());
+        verify(invalidationBus, times(1)).publish(CacheInvalidation.block(id, "prop-0"));
+        verify(invalidationBus, times(1)).publish(CacheInvalidation.block(id, property));
+    }
+
     @Test
     @DisplayName("when block isn't found by id provided, throws BlockNotFoundException")
     void throwsBlockNotFoundException() {
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(false);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> subject.execute(updateBlockCommand))
                 .isInstanceOf(BlockNotFoundException.class);
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verifyNoInteractions(availabilityService, propertyRepository);
         verifyNoMoreInteractions(blockRepository);
     }
@@ -87,14 +119,14 @@ public class UpdateBlockTest {
 
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(true);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.of(property));
         when(availabilityService.canBlock(startDate, endDate, property))
                 .thenThrow(new InvalidDateRangeException("a error"));
 
         Assertions.assertThatThrownBy(() -> subject.execute(updateBlockCommand))
                 .isInstanceOf(InvalidDateRangeException.class);
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verifyNoInteractions(availabilityService, propertyRepository);
         verifyNoMoreInteractions(blockRepository);
     }
@@ -104,14 +136,14 @@ public class UpdateBlockTest {
     void throwsOverlapBlockException() {
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(true);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.of(property));
         when(availabilityService.canBlock(startDate, endDate, property))
                 .thenThrow(new OverlapBlockException("a error"));
 
         Assertions.assertThatThrownBy(() -> subject.execute(updateBlockCommand))
                 .isInstanceOf(OverlapBlockException.class);
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verify(availabilityService, times(1)).canBlock(startDate, endDate, property);
         verifyNoInteractions(propertyRepository);
         verifyNoMoreInteractions(blockRepository);
@@ -122,14 +154,14 @@ public class UpdateBlockTest {
     void throwsPropertyNotFoundException() {
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(true);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.of(property));
         when(availabilityService.canBlock(startDate, endDate, property)).thenReturn(true);
         when(propertyRepository.findByExternalId(property)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> subject.execute(updateBlockCommand))
                 .isInstanceOf(PropertyNotFoundException.class);
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verify(availabilityService, times(1)).canBlock(startDate, endDate, property);
         verify(propertyRepository, times(1)).findByExternalId(property);
         verifyNoMoreInteractions(blockRepository);
@@ -140,7 +172,7 @@ public class UpdateBlockTest {
     void throwsBlockGenericException() {
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(true);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.of(property));
         when(availabilityService.canBlock(startDate, endDate, property)).thenReturn(true);
         when(propertyRepository.findByExternalId(property)).thenReturn(Optional.of(propertyEntity));
         when(blockRepository.updateByExternalId(propertyEntity, reason, startDate, endDate, id))
@@ -149,7 +181,7 @@ public class UpdateBlockTest {
         Assertions.assertThatThrownBy(() -> subject.execute(updateBlockCommand))
                 .isInstanceOf(BlockGenericException.class);
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verify(availabilityService, times(1)).canBlock(startDate, endDate, property);
         verify(propertyRepository, times(1)).findByExternalId(property);
         verify(blockRepository, times(1)).updateByExternalId(propertyEntity, reason, startDate, endDate, id);
@@ -161,7 +193,7 @@ public class UpdateBlockTest {
     void throwsBlockGenericExceptionWhenBlockIsFoundById() {
         final UpdateBlockCommand updateBlockCommand = new UpdateBlockCommand(id, property, reason, startDate, endDate);
 
-        when(blockRepository.existsByExternalId(updateBlockCommand.id())).thenReturn(true);
+        when(blockRepository.findPropertyIdByExternalId(updateBlockCommand.id())).thenReturn(Optional.of(property));
         when(availabilityService.canBlock(startDate, endDate, property)).thenReturn(true);
         when(propertyRepository.findByExternalId(property)).thenReturn(Optional.of(propertyEntity));
         when(blockRepository.updateByExternalId(propertyEntity, reason, startDate, endDate, id))
@@ -171,7 +203,7 @@ public class UpdateBlockTest {
         Assertions.assertThatThrownBy(() -> subject.execute(updateBlockCommand))
                 .isInstanceOf(BlockNotFoundException.class);
 
-        verify(blockRepository, times(1)).existsByExternalId(updateBlockCommand.id());
+        verify(blockRepository, times(1)).findPropertyIdByExternalId(updateBlockCommand.id());
         verify(availabilityService, times(1)).canBlock(startDate, endDate, property);
         verify(propertyRepository, times(1)).findByExternalId(property);
         verify(blockRepository, times(1)).updateByExternalId(propertyEntity, reason, startDate, endDate, id);
@@ -0,0 +1,107 @@
+package com.hostfully.app.booking.archive;
+
+import com.hostfully.app.infra.entity.BookingArchiveEntity;
+import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+public class BookingArchiverTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PropertyEntity property;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        property = entityManager.persist(new PropertyEntity("PROP-0001", "Beach House", "Beach baby!"));
+    }
+
+    @Test
+    @DisplayName("should move ended and long cancelled bookings to the archive, and keep the others")
+    void shouldArchiveBookings() {
+        save("ended", BookingStatus.CONFIRMED, today.minusDays(100), today.minusDays(95), Duration.ofDays(100));
+        save("cancelled", BookingStatus.CANCELLED, today.plusDays(10), today.plusDays(12), Duration.ofDays(40));
+        save("recent", BookingStatus.CANCELLED, today.plusDays(10), today.plusDays(12), Duration.ofDays(1));
+        save("ahead", BookingStatus.CONFIRMED, today.plusDays(20), today.plusDays(22), Duration.ofDays(40));
+        save("just-ended", BookingStatus.CONFIRMED, today.minusDays(10), today.minusDays(5), Duration.ofDays(10));
+
+        buildArchiver(500, 20).archive();
+
+        Assertions.assertThat(bookingRepository.findAll())
+                .extracting(BookingEntity::getExternalId)
+                .containsExactlyInAnyOrder("recent", "ahead", "just-ended");
+        Assertions.assertThat(bookingArchiveRepository.findAll())
+                .extracting(BookingArchiveEntity::getExternalId)
+                .containsExactlyInAnyOrder("ended", "cancelled");
+
+        final BookingArchiveEntity archived = bookingArchiveRepository.findByExternalId("ended").orElseThrow();
+        Assertions.assertThat(archived.getProperty().getExternalId()).isEqualTo("PROP-0001");
+        Assertions.assertThat(archived.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        Assertions.assertThat(archived.getStartDate()).isEqualTo(today.minusDays(100));
+        Assertions.assertThat(archived.getEndDate()).isEqualTo(today.minusDays(95));
+        Assertions.assertThat(archived.getArchivedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should archive at most max-batches batches per run")
+    void shouldBoundTheRun() {
+        for (int booking = 1; booking <= 3; booking++)
+            save("ended-" + booking, BookingStatus.CONFIRMED, today.minusDays(100), today.minusDays(95), Duration.ZERO);
+
+        buildArchiver(1, 2).archive();
+
+        Assertions.assertThat(bookingArchiveRepository.count()).isEqualTo(2);
+        Assertions.assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
+    private BookingArchiver buildArchiver(final int batchSize, final int maxBatches) {
+        return new BookingArchiver(
+                bookingRepository,
+                bookingArchiveRepository,
+                transactionManager,
+                Duration.ofDays(90),
+                Duration.ofDays(30),
+                batchSize,
+                maxBatches);
+    }
+
+    // Auditing isn't enabled in @DataJpaTest, the timestamps are set by hand
+    private void save(
+            final String id,
+            final BookingStatus status,
+            final LocalDate startDate,
+            final LocalDate endDate,
+            final Duration updatedAgo) {
+        final BookingEntity booking = new BookingEntity(id, property, "Guest", 2, status, startDate, endDate);
+        booking.setCreatedAt(Instant.now().minus(updatedAgo));
+        booking.setUpdatedAt(Instant.now().minus(updatedAgo));
+        entityManager.persist(booking);
+        entityManager.flush();
+    }
+}
@@ -1,6 +1,7 @@
 package com.hostfully.app.booking.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,7 +14,10 @@ import com.hostfully.app.booking.exception.*;
 import com.hostfully.app.booking.usecase.*;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.exception.PropertyNotFoundException;
+import com.hostfully.app.shared.exception.AdmissionRejectedException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -45,6 +49,9 @@ public class BookingControllerTest {
     @MockitoBean
     private GetBooking getBooking;
 
+    @MockitoBean
+    private GetBookingVersion getBookingVersion;
+
     @MockitoBean
     private CancelBooking cancelBooking;
 
@@ -54,6 +61,9 @@ public class BookingControllerTest {
     @MockitoBean
     private UpdateBooking updateBooking;
 
+    @MockitoBean
+    private GetBookingPropertyId getBookingPropertyId;
+
     private final String url = "/v1/bookings";
 
     private final String guest = "Galadriel";
@@ -148,6 +158,38 @@ public class BookingControllerTest {
         mvc.perform(request).andExpect(status().isInternalServerError());
     }
 
+    @Test
+    @DisplayName("POST /bookings - error too many requests for the property")
+    void postCreateBookingAdmissionRejected() throws Exception {
+        final BookingRequest payload = buildBookingRequest();
+
+        Mockito.when(createBooking.execute(Mockito.any()))
+                .thenThrow(new AdmissionRejectedException("an error", Duration.ofSeconds(1)));
+
+        final MockHttpServletRequestBuilder request = post(url)
+                .header("Idempotency-Key", UUID.randomUUID())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(payload));
+
+        mvc.perform(request).andExpect(status().isTooManyRequests()).andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/{id} - error booking not found while resolving its property")
+    void patchUpdateBookingPropertyNotFound() throws Exception {
+        final String id = "a-super-id";
+        final UpdateBookingRequest payload = buildUpdateBookingRequest();
+
+        Mockito.when(getBookingPropertyId.execute(id)).thenThrow(new BookingNotFoundException("error"));
+
+        final MockHttpServletRequestBuilder request = patch(url + "/" + id)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(payload));
+
+        mvc.perform(request).andExpect(status().isNotFound());
+        Mockito.verifyNoInteractions(updateBooking);
+    }
+
     @Test
     @DisplayName("DELETE /bookings/{id} - block deleted")
     void deleteBooking() throws Exception {
@@ -181,6 +223,39 @@ public class BookingControllerTest {
         mvc.perform(request).andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /bookings/{id} - ETag derived from the booking version")
+    void getBookingWithETag() throws Exception {
+        final String id = "a-super-id";
+        Mockito.when(getBooking.execute(id)).thenReturn(buildBooking(3L));
+
+        mvc.perform(get(url + "/" + id)).andExpect(status().isOk()).andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    @DisplayName("GET /bookings/{id} - not modified when If-None-Match is the current version")
+    void getBookingNotModified() throws Exception {
+        final String id = "a-super-id";
+        Mockito.when(getBookingVersion.execute(id)).thenReturn(3L);
+
+        final MockHttpServletRequestBuilder request = get(url + "/" + id).header("If-None-Match", "\"3\"");
+
+        mvc.perform(request).andExpect(status().isNotModified()).andExpect(header().string("ETag", "\"3\""));
+        Mockito.verifyNoInteractions(getBooking);
+    }
+
+    @Test
+    @DisplayName("GET /bookings/{id} - full body when If-None-Match is an older version")
+    void getBookingModified() throws Exception {
+        final String id = "a-super-id";
+        Mockito.when(getBookingVersion.execute(id)).thenReturn(4L);
+        Mockito.when(getBooking.execute(id)).thenReturn(buildBooking(4L));
+
+        final MockHttpServletRequestBuilder request = get(url + "/" + id).header("If-None-Match", "\"3\"");
+
+        mvc.perform(request).andExpect(status().isOk()).andExpect(header().string("ETag", "\"4\""));
+    }
+
     @Test
     @DisplayName("GET /bookings/{id} - booking not found error")
     void getBookingNotFoundException() throws Exception {
@@ -393,6 +468,41 @@ public class BookingControllerTest {
         mvc.perform(request).andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("PATCH /bookings/{id} - If-Match versions are passed to the update")
+    void patchUpdateBookingIfMatch() throws Exception {
+        final String id = "a-super-id";
+        final UpdateBookingRequest payload = buildUpdateBookingRequest();
+
+        Mockito.when(updateBooking.execute(
+                        Mockito.argThat(command -> Set.of(3L, 4L).equals(command.expectedVersions()))))
+                .thenReturn(buildBooking(4L));
+
+        final MockHttpServletRequestBuilder request = patch(url + "/" + id)
+                .header("If-Match", "\"3\", \"4\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(payload));
+
+        mvc.perform(request).andExpect(status().isOk()).andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    @DisplayName("PATCH /bookings/{id} - error booking modified since If-Match version")
+    void patchUpdateBookingPreconditionFailed() throws Exception {
+        final String id = "a-super-id";
+        final UpdateBookingRequest payload = buildUpdateBookingRequest();
+
+        Mockito.when(updateBooking.execute(Mockito.any()))
+                .thenThrow(new BookingVersionMismatchException("error"));
+
+        final MockHttpServletRequestBuilder request = patch(url + "/" + id)
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(mapper.writeValueAsString(payload));
+
+        mvc.perform(request).andExpect(status().isPreconditionFailed());
+    }
+
     @Test
     @DisplayName("PATCH /bookings/{id} - error updated not allowed")
     void patchUpdateBookingNotAllowed() throws Exception {
@@ -468,4 +578,8 @@ public class BookingControllerTest {
     private Booking buildBooking() {
         return new Booking("FLORESTXC", "AMAZINGHOUSE", startDate, endDate, guest, 2, "CONFIRMED");
     }
+
+    private Booking buildBooking(final Long version) {
+        return new Booking("FLORESTXC", "AMAZINGHOUSE", startDate, endDate, guest, 2, "CONFIRMED", version);
+    }
 }
@@ -5,13 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
 
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingConflictException;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
-import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.repository.BookingRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,7 +39,11 @@ public class CancelBookingTest {
         when(property.getExternalId()).thenReturn("PROP-0001");
     }
 
-    private final CancelBooking subject = new CancelBooking(idempotencyService, bookingRepository);
+    private final BookingCache bookingCache = mock(BookingCache.class);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final CancelBooking subject =
+            new CancelBooking(idempotencyService, bookingRepository, bookingCache, invalidationBus, outboxService);
 
     final String bookingId = "booking-123";
     final String propertyId = "PROP-0001";
@@ -65,6 +75,7 @@ public class CancelBookingTest {
     void shouldCancelBookingAndSaveResponseWhenBookingIsNotCancelled() {
         final UUID idempotencyKey = UUID.randomUUID();
         final BookingEntity activeBooking = createBookingEntity(BookingStatus.CONFIRMED);
+        activeBooking.setVersion(2L);
         final BookingEntity cancelledBooking = createBookingEntity(BookingStatus.CANCELLED);
         final Booking expectedBooking = createBooking(BookingStatus.CANCELLED);
 
@@ -72,6 +83,7 @@ public class CancelBookingTest {
         when(bookingRepository.findByExternalId(bookingId))
                 .thenReturn(Optional.of(activeBooking))
                 .thenReturn(Optional.of(cancelledBooking));
+        when(bookingRepository.updateStatus(BookingStatus.CANCELLED, bookingId, 2L)).thenReturn(1);
 
         final Booking result = subject.execute(bookingId, idempotencyKey);
 
@@ -80,8 +92,11 @@ public class CancelBookingTest {
             softAssertions.assertThat(result).usingRecursiveComparison().isEqualTo(expectedBooking);
         });
 
-        verify(bookingRepository, times(1)).updateStatus(BookingStatus.CANCELLED, bookingId);
+        verify(bookingRepository, times(1)).updateStatus(BookingStatus.CANCELLED, bookingId, 2L);
         verify(idempotencyService, times(1)).saveResponse(idempotencyKey, result);
+        verify(bookingCache, times(1)).put(result);
+        verify(invalidationBus, times(1)).publish(CacheInvalidation.booking(bookingId, "PROP-0001"));
+        verify(outboxService, times(1)).bookingChanged(EventType.CANCELLED, result);
     }
 
     @Test
@@ -104,8 +119,26 @@ public class CancelBookingTest {
             softAssertions.assertThat(result).usingRecursiveComparison().isEqualTo(expectedBooking);
         });
 
-        verify(bookingRepository, times(0)).updateStatus(BookingStatus.CANCELLED, bookingId);
+        verify(bookingRepository, times(0)).updateStatus(any(), any(), any());
         verify(idempotencyService, times(1)).saveResponse(idempotencyKey, result);
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    @DisplayName("should throw BookingConflictException when the booking changed since it was read")
+    void shouldThrowBookingConflictExceptionWhenVersionChanged() {
+        final UUID idempotencyKey = UUID.randomUUID();
+        final BookingEntity activeBooking = createBookingEntity(BookingStatus.CONFIRMED);
+        activeBooking.setVersion(2L);
+
+        when(idempotencyService.getResponse(idempotencyKey, Booking.class)).thenReturn(Optional.empty());
+        when(bookingRepository.findByExternalId(bookingId)).thenReturn(Optional.of(activeBooking));
+        when(bookingRepository.updateStatus(BookingStatus.CANCELLED, bookingId, 2L)).thenReturn(0);
+
+        Assertions.assertThrows(BookingConflictException.class, () -> subject.execute(bookingId, idempotencyKey));
+
+        verify(idempotencyService, never()).saveResponse(any(), any());
+        verifyNoInteractions(bookingCache, invalidationBus, outboxService);
     }
 
     @Test
@@ -10,13 +10,16 @@ import com.hostfully.app.booking.domain.Booking;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.OverlapBookingException;
 import com.hostfully.app.booking.usecase.CreateBooking.CreateBookingCommand;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.PropertyNotFoundException;
 import com.hostfully.app.infra.repository.BookingRepository;
 import com.hostfully.app.infra.repository.PropertyRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.outbox.OutboxService;
 import com.hostfully.app.shared.util.NanoIdGenerator;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.dao.DataIntegrityViolationException;
 
 class CreateBookingTest {
 
@@ -37,8 +41,16 @@ class CreateBookingTest {
     private final AvailabilityService availabilityService = mock(AvailabilityService.class);
     private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
     private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
     private final CreateBooking subject = new CreateBooking(
-            idempotencyService, nanoIdGenerator, availabilityService, propertyRepository, bookingRepository);
+            idempotencyService,
+            nanoIdGenerator,
+            availabilityService,
+            propertyRepository,
+            bookingRepository,
+            invalidationBus,
+            outboxService);
 
     @Test
     @DisplayName("should return existing booking when idempotency key already exists")
@@ -219,6 +231,34 @@ class CreateBookingTest {
         verify(idempotencyService, times(0)).saveResponse(idempotencyKey, Booking.class);
     }
 
+    @Test
+    @DisplayName("should throw OverlapBookingException when the database rejects an overlapping booking")
+    void shouldThrowOverlapBookingExceptionWhenExclusionConstraintIsViolated() {
+        final UUID idempotencyKey = UUID.randomUUID();
+        final String generatedId = "booking-123";
+        final String propertyId = "property-1";
+        final LocalDate startDate = LocalDate.of(2025, 10, 20);
+        final LocalDate endDate = LocalDate.of(2025, 10, 25);
+        final CreateBookingCommand command =
+                new CreateBookingCommand(propertyId, startDate, endDate, "Arya Stark", 1, idempotencyKey);
+        final PropertyEntity propertyEntity = new PropertyEntity(propertyId, "description", "cozy place");
+        final SQLException violation = new SQLException("conflicting key value violates exclusion constraint", "23P01");
+
+        when(idempotencyService.getResponse(idempotencyKey, Booking.class)).thenReturn(Optional.empty());
+        when(nanoIdGenerator.generateId()).thenReturn(generatedId);
+        when(propertyRepository.findByExternalId(propertyId)).thenReturn(Optional.of(propertyEntity));
+        when(availabilityService.canBook(startDate, endDate, propertyId, generatedId))
+                .thenReturn(true);
+        when(bookingRepository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        Assertions.assertThrows(OverlapBookingException.class, () -> subject.execute(command));
+
+        verify(bookingRepository, times(1)).save(any());
+        verify(idempotencyService, times(0)).saveResponse(any(), any());
+        verifyNoInteractions(outboxService, invalidationBus);
+    }
+
     private static Stream<Arguments> invalidRanges() {
         return Stream.of(
                 arguments(LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 2)),
@@ -1,10 +1,17 @@
 package com.hostfully.app.booking.usecase;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hostfully.app.block.exceptions.BlockGenericException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxService;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,14 +19,22 @@ import org.junit.jupiter.api.Test;
 public class DeleteBookingTest {
 
     private final BookingRepository bookingRepository = mock(BookingRepository.class);
-    private final DeleteBooking subject = new DeleteBooking(bookingRepository);
+    private final BookingCache bookingCache = mock(BookingCache.class);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final DeleteBooking subject =
+            new DeleteBooking(bookingRepository, bookingCache, invalidationBus, outboxService);
 
     @Test
     @DisplayName("should delete a booking, when a ID is provided")
     void shouldDeleteBooking() {
         final String externalId = "a-id-spec";
+        when(bookingRepository.findPropertyIdByExternalId(externalId)).thenReturn(Optional.of("PROP-0001"));
         when(bookingRepository.deleteByExternalId(externalId)).thenReturn(1);
         Assertions.assertTrue(subject.execute(externalId));
+        verify(bookingCache).evict(externalId);
+        verify(invalidationBus).publish(CacheInvalidation.booking(externalId, "PROP-0001"));
+        verify(outboxService).deleted(AggregateType.BOOKING, externalId, "PROP-0001");
     }
 
     @Test
@@ -0,0 +1,61 @@
+package com.hostfully.app.booking.usecase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingGenericException;
+import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.repository.BookingRepository;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+public class GetBookingPropertyIdTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingCache bookingCache = mock(BookingCache.class);
+    private final GetBookingPropertyId subject = new GetBookingPropertyId(bookingRepository, bookingCache);
+
+    private final String externalId = "a-id-spec";
+
+    @Test
+    @DisplayName("should return the property id of the booking, when a ID is provided")
+    void shouldReturnPropertyId() {
+        when(bookingRepository.findPropertyIdByExternalId(externalId)).thenReturn(Optional.of("PROP-0001"));
+
+        Assertions.assertThat(subject.execute(externalId)).isEqualTo("PROP-0001");
+    }
+
+    @Test
+    @DisplayName("should return the property id of a cached booking without reading the database")
+    void shouldReturnCachedPropertyId() {
+        final Booking booking = new Booking(
+                externalId, "PROP-0002", LocalDate.now(), LocalDate.now().plusDays(2), "Guest", 2, "CONFIRMED");
+        when(bookingCache.getIfPresent(externalId)).thenReturn(Optional.of(booking));
+
+        Assertions.assertThat(subject.execute(externalId)).isEqualTo("PROP-0002");
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("should throw BookingNotFoundException, when booking isn't found by id")
+    void shouldThrowBookingNotFoundException() {
+        when(bookingRepository.findPropertyIdByExternalId(externalId)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> subject.execute(externalId)).isInstanceOf(BookingNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should throw BookingGenericException, when unexpected error occurred")
+    void shouldThrowBookingGenericException() {
+        when(bookingRepository.findPropertyIdByExternalId(externalId)).thenThrow(new QueryTimeoutException("error"));
+
+        Assertions.assertThatThrownBy(() -> subject.execute(externalId)).isInstanceOf(BookingGenericException.class);
+    }
+}
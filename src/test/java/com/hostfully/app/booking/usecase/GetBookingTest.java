@@ -1,15 +1,20 @@
 package com.hostfully.app.booking.usecase;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import com.hostfully.app.booking.domain.Booking;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.InMemoryInvalidationBus;
+import com.hostfully.app.infra.entity.BookingArchiveEntity;
 import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
 import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
 import com.hostfully.app.infra.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
 import org.assertj.core.api.SoftAssertions;
@@ -22,7 +27,10 @@ import org.springframework.dao.QueryTimeoutException;
 public class GetBookingTest {
 
     private final BookingRepository bookingRepository = mock(BookingRepository.class);
-    private final GetBooking subject = new GetBooking(bookingRepository);
+    private final BookingCache bookingCache = new BookingCache(
+            100, Duration.ofMinutes(1), new SimpleMeterRegistry(), new InMemoryInvalidationBus());
+    private final BookingArchiveRepository bookingArchiveRepository = mock(BookingArchiveRepository.class);
+    private final GetBooking subject = new GetBooking(bookingRepository, bookingArchiveRepository, bookingCache);
     private final PropertyEntity property = mock(PropertyEntity.class);
 
     private final String guest = "Daenerys Targaryen";
@@ -50,6 +58,38 @@ public class GetBookingTest {
         });
     }
 
+    @Test
+    @DisplayName("should serve repeated reads from the cache")
+    void shouldServeRepeatedReadsFromCache() {
+        when(bookingRepository.findByExternalId(externalId)).thenReturn(Optional.of(buildBookingEntity()));
+
+        final Booking first = subject.execute(externalId);
+        final Booking second = subject.execute(externalId);
+
+        Assertions.assertSame(first, second);
+        verify(bookingRepository, times(1)).findByExternalId(externalId);
+    }
+
+    @Test
+    @DisplayName("should return an archived Booking, when it isn't in the bookings table")
+    void shouldFallBackToArchive() {
+        final BookingArchiveEntity archived = mock(BookingArchiveEntity.class);
+        when(archived.getExternalId()).thenReturn(externalId);
+        when(archived.getProperty()).thenReturn(property);
+        when(archived.getGuest()).thenReturn(guest);
+        when(archived.getNumberGuest()).thenReturn(numberGuest);
+        when(archived.getStatus()).thenReturn(BookingStatus.CONFIRMED);
+        when(archived.getStartDate()).thenReturn(startDate);
+        when(archived.getEndDate()).thenReturn(endDate);
+        when(bookingRepository.findByExternalId(externalId)).thenReturn(Optional.empty());
+        when(bookingArchiveRepository.findByExternalId(externalId)).thenReturn(Optional.of(archived));
+
+        final Booking result = subject.execute(externalId);
+
+        SoftAssertions.assertSoftly(softAssertions ->
+                softAssertions.assertThat(result).usingRecursiveComparison().isEqualTo(buildBooking()));
+    }
+
     @Test
     @DisplayName("should throw BookingNotFoundException, when booking isn't found by id")
     void shouldThrowBookingNotFoundException() {
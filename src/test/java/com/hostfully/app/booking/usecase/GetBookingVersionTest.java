@@ -0,0 +1,77 @@
+package com.hostfully.app.booking.usecase;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingGenericException;
+import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.InMemoryInvalidationBus;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+public class GetBookingVersionTest {
+
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingArchiveRepository bookingArchiveRepository = mock(BookingArchiveRepository.class);
+    private final BookingCache bookingCache = new BookingCache(
+            100, Duration.ofMinutes(1), new SimpleMeterRegistry(), new InMemoryInvalidationBus());
+    private final GetBookingVersion subject =
+            new GetBookingVersion(bookingRepository, bookingArchiveRepository, bookingCache);
+
+    private final String externalId = "a-id-spec";
+
+    @Test
+    @DisplayName("should return the booking version, when a ID is provided")
+    void shouldReturnVersion() {
+        when(bookingRepository.findVersionByExternalId(externalId)).thenReturn(Optional.of(7L));
+
+        Assertions.assertThat(subject.execute(externalId)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("should return the cached booking version without querying, when the booking is cached")
+    void shouldReturnCachedVersion() {
+        final LocalDate startDate = LocalDate.now().plusDays(1);
+        bookingCache.put(new Booking(
+                externalId, "a-prop-id", startDate, startDate.plusDays(2), "John Doe", 2, "CONFIRMED", 5L));
+
+        Assertions.assertThat(subject.execute(externalId)).isEqualTo(5L);
+        verifyNoInteractions(bookingRepository, bookingArchiveRepository);
+    }
+
+    @Test
+    @DisplayName("should return the version of an archived booking, when it isn't in the bookings table")
+    void shouldReturnArchivedVersion() {
+        when(bookingRepository.findVersionByExternalId(externalId)).thenReturn(Optional.empty());
+        when(bookingArchiveRepository.findVersionByExternalId(externalId)).thenReturn(Optional.of(3L));
+
+        Assertions.assertThat(subject.execute(externalId)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("should throw BookingNotFoundException, when booking isn't found by id")
+    void shouldThrowBookingNotFoundException() {
+        when(bookingRepository.findVersionByExternalId(externalId)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> subject.execute(externalId)).isInstanceOf(BookingNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should throw BookingGenericException, when unexpected error occurred")
+    void shouldThrowBookingGenericException() {
+        when(bookingRepository.findVersionByExternalId(externalId)).thenThrow(new QueryTimeoutException("error"));
+
+        Assertions.assertThatThrownBy(() -> subject.execute(externalId)).isInstanceOf(BookingGenericException.class);
+    }
+}
@@ -7,17 +7,23 @@ import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingConflictException;
 import com.hostfully.app.booking.exception.BookingGenericException;
 import com.hostfully.app.booking.exception.BookingNotFoundException;
 import com.hostfully.app.booking.exception.OverlapBookingException;
 import com.hostfully.app.booking.exception.RebookNotAllowedException;
 import com.hostfully.app.booking.usecase.RebookBooking.RebookCommand;
-import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.exception.InvalidDateRangeException;
 import com.hostfully.app.infra.repository.BookingRepository;
 import com.hostfully.app.shared.IdempotencyService;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,7 +52,16 @@ public class RebookBookingTest {
     private final LocalDate startDate = LocalDate.of(2025, 10, 20);
     private final LocalDate endDate = LocalDate.of(2025, 10, 25);
 
-    private final RebookBooking subject = new RebookBooking(idempotencyService, availabilityService, bookingRepository);
+    private final BookingCache bookingCache = mock(BookingCache.class);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final RebookBooking subject = new RebookBooking(
+            idempotencyService,
+            availabilityService,
+            bookingRepository,
+            bookingCache,
+            invalidationBus,
+            outboxService);
 
     @BeforeEach
     void setup() {
@@ -81,7 +96,7 @@ public class RebookBookingTest {
                 .thenReturn(Optional.of(createBookingEntity(BookingStatus.CANCELLED)))
                 .thenReturn(Optional.of(createBookingEntity(BookingStatus.CONFIRMED)));
         when(availabilityService.canBook(startDate, endDate, propertyId, id)).thenReturn(true);
-        when(bookingRepository.updateStatusAndTimeframe(BookingStatus.CONFIRMED, startDate, endDate, id))
+        when(bookingRepository.updateStatusAndTimeframe(BookingStatus.CONFIRMED, startDate, endDate, id, null))
                 .thenReturn(1);
 
         final Booking result = subject.execute(command);
@@ -94,8 +109,32 @@ public class RebookBookingTest {
         verify(idempotencyService, times(1)).getResponse(idempotencyKey, Booking.class);
         verify(bookingRepository, times(2)).findByExternalId(id);
         verify(availabilityService, times(1)).canBook(startDate, endDate, propertyId, id);
-        verify(bookingRepository, times(1)).updateStatusAndTimeframe(BookingStatus.CONFIRMED, startDate, endDate, id);
+        verify(bookingRepository, times(1))
+                .updateStatusAndTimeframe(BookingStatus.CONFIRMED, startDate, endDate, id, null);
         verify(idempotencyService, times(1)).saveResponse(idempotencyKey, result);
+        verify(bookingCache, times(1)).put(result);
+        verify(invalidationBus, times(1)).publish(CacheInvalidation.booking(id, propertyId));
+        verify(outboxService, times(1)).bookingChanged(EventType.REBOOKED, result);
+    }
+
+    @Test
+    @DisplayName("should throw BookingConflictException, when the booking changed since it was read")
+    void shouldThrowBookingConflictException() {
+        final UUID idempotencyKey = UUID.randomUUID();
+        final RebookCommand command = createCommand(idempotencyKey, startDate, endDate);
+        final BookingEntity cancelled = createBookingEntity(BookingStatus.CANCELLED);
+        cancelled.setVersion(2L);
+
+        when(idempotencyService.getResponse(idempotencyKey, Booking.class)).thenReturn(Optional.empty());
+        when(bookingRepository.findByExternalId(id)).thenReturn(Optional.of(cancelled));
+        when(availabilityService.canBook(startDate, endDate, propertyId, id)).thenReturn(true);
+        when(bookingRepository.updateStatusAndTimeframe(BookingStatus.CONFIRMED, startDate, endDate, id, 2L))
+                .thenReturn(0);
+
+        Assertions.assertThrows(BookingConflictException.class, () -> subject.execute(command));
+
+        verify(idempotencyService, never()).saveResponse(any(), any());
+        verifyNoInteractions(bookingCache, invalidationBus, outboxService);
     }
 
     @Test
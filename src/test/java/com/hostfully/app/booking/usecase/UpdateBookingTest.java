@@ -5,16 +5,24 @@ import static org.mockito.Mockito.*;
 
 import com.hostfully.app.availability.service.AvailabilityService;
 import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.exception.BookingConflictException;
 import com.hostfully.app.booking.exception.BookingGenericException;
+import com.hostfully.app.booking.exception.BookingVersionMismatchException;
 import com.hostfully.app.booking.exception.OverlapBookingException;
 import com.hostfully.app.booking.exception.UpdateNotAllowedException;
 import com.hostfully.app.booking.usecase.UpdateBooking.UpdateBookingCommand;
-import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.cache.BookingCache;
+import com.hostfully.app.infra.cache.CacheInvalidation;
+import com.hostfully.app.infra.cache.InvalidationBus;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import com.hostfully.app.shared.outbox.OutboxService;
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Assertions;
@@ -30,7 +38,11 @@ public class UpdateBookingTest {
 
     private final BookingRepository bookingRepository = mock(BookingRepository.class);
     private final AvailabilityService availabilityService = mock(AvailabilityService.class);
-    private final UpdateBooking subject = new UpdateBooking(bookingRepository, availabilityService);
+    private final BookingCache bookingCache = mock(BookingCache.class);
+    private final InvalidationBus invalidationBus = mock(InvalidationBus.class);
+    private final OutboxService outboxService = mock(OutboxService.class);
+    private final UpdateBooking subject =
+            new UpdateBooking(bookingRepository, availabilityService, bookingCache, invalidationBus, outboxService);
     private final PropertyEntity property = mock(PropertyEntity.class);
 
     private final String id = "qweert-012";
@@ -55,7 +67,7 @@ public class UpdateBookingTest {
         final int usedNumberGuest = number > 0 ? number : numberGuest;
 
         final Booking expectedBooking = createBooking(usedStartDate, usedEndDate, usedGuest, usedNumberGuest);
-        final UpdateBookingCommand command = new UpdateBookingCommand(id, dateStart, dateEnd, guestName, number);
+        final UpdateBookingCommand command = new UpdateBookingCommand(id, dateStart, dateEnd, guestName, number, null);
         final BookingEntity existingEntity =
                 createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CONFIRMED);
         final BookingEntity updatedEntity =
@@ -66,6 +78,9 @@ public class UpdateBookingTest {
                 .thenReturn(Optional.of(updatedEntity));
         when(availabilityService.canBook(usedStartDate, usedEndDate, propertyId, id))
                 .thenReturn(true);
+        when(bookingRepository.updateStartDateEndGuestNumber(
+                        usedStartDate, usedEndDate, usedGuest, usedNumberGuest, id, null))
+                .thenReturn(1);
 
         final Booking result = subject.execute(command);
 
@@ -75,18 +90,21 @@ public class UpdateBookingTest {
         });
 
         verify(bookingRepository)
-                .updateStartDateEndGuestNumber(usedStartDate, usedEndDate, usedGuest, usedNumberGuest, id);
+                .updateStartDateEndGuestNumber(usedStartDate, usedEndDate, usedGuest, usedNumberGuest, id, null);
         verify(availabilityService, times(1)).canBook(usedStartDate, usedEndDate, propertyId, id);
         verify(bookingRepository, times(2)).findByExternalId(id);
         verify(bookingRepository, times(1))
-                .updateStartDateEndGuestNumber(usedStartDate, usedEndDate, usedGuest, usedNumberGuest, id);
+                .updateStartDateEndGuestNumber(usedStartDate, usedEndDate, usedGuest, usedNumberGuest, id, null);
+        verify(bookingCache, times(1)).put(result);
+        verify(invalidationBus, times(1)).publish(CacheInvalidation.booking(id, propertyId));
+        verify(outboxService, times(1)).bookingChanged(EventType.UPDATED, result);
     }
 
     @Test
     @DisplayName("should throw UpdateNowAllowedException when booking status does not allow updates")
     void shouldThrowUpdateNowAllowedException() {
         final UpdateBookingCommand command =
-                new UpdateBookingCommand(id, startDate, LocalDate.now().minusDays(10), guest, numberGuest);
+                new UpdateBookingCommand(id, startDate, LocalDate.now().minusDays(10), guest, numberGuest, null);
         final BookingEntity existingEntity =
                 createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CANCELLED);
 
@@ -102,7 +120,7 @@ public class UpdateBookingTest {
     @Test
     @DisplayName("should throw InvalidDateRangeException when booking status does not allow updates")
     void shouldThrowInvalidDateRangeException() {
-        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest);
+        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest, null);
         final BookingEntity existingEntity =
                 createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CANCELLED);
 
@@ -118,7 +136,7 @@ public class UpdateBookingTest {
     @Test
     @DisplayName("should throw OverlapBookingException when property is not available for selected dates")
     void shouldThrowOverlapBookingException() {
-        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest);
+        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest, null);
         final BookingEntity existingEntity =
                 createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CONFIRMED);
 
@@ -135,23 +153,60 @@ public class UpdateBookingTest {
     @Test
     @DisplayName("should throw BookingGenericException when unexpected exception occurred")
     void shouldThrowBookingGenericException() {
-        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest);
+        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest, null);
         final BookingEntity existingEntity =
                 createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CONFIRMED);
 
         when(bookingRepository.findByExternalId(id)).thenReturn(Optional.of(existingEntity));
         when(availabilityService.canBook(startDate, endDate, propertyId, id)).thenReturn(true);
-        when(bookingRepository.updateStartDateEndGuestNumber(startDate, endDate, guest, numberGuest, id))
+        when(bookingRepository.updateStartDateEndGuestNumber(startDate, endDate, guest, numberGuest, id, null))
                 .thenThrow(new QueryTimeoutException("error"));
 
         Assertions.assertThrows(BookingGenericException.class, () -> subject.execute(command));
 
         verify(bookingRepository, times(1)).findByExternalId(id);
         verify(availabilityService, times(1)).canBook(startDate, endDate, propertyId, id);
-        verify(bookingRepository, times(1)).updateStartDateEndGuestNumber(startDate, endDate, guest, numberGuest, id);
+        verify(bookingRepository, times(1))
+                .updateStartDateEndGuestNumber(startDate, endDate, guest, numberGuest, id, null);
         verifyNoMoreInteractions(bookingRepository);
     }
 
+    @Test
+    @DisplayName("should throw BookingConflictException when the booking changed since it was read")
+    void shouldThrowBookingConflictException() {
+        final UpdateBookingCommand command = new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest, null);
+        final BookingEntity existingEntity =
+                createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CONFIRMED);
+        existingEntity.setVersion(4L);
+
+        when(bookingRepository.findByExternalId(id)).thenReturn(Optional.of(existingEntity));
+        when(availabilityService.canBook(startDate, endDate, propertyId, id)).thenReturn(true);
+        when(bookingRepository.updateStartDateEndGuestNumber(startDate, endDate, guest, numberGuest, id, 4L))
+                .thenReturn(0);
+
+        Assertions.assertThrows(BookingConflictException.class, () -> subject.execute(command));
+        verifyNoInteractions(bookingCache, invalidationBus, outboxService);
+    }
+
+    @Test
+    @DisplayName("should throw BookingVersionMismatchException when If-Match version is not the current one")
+    void shouldThrowBookingVersionMismatchException() {
+        final UpdateBookingCommand command =
+                new UpdateBookingCommand(id, startDate, endDate, guest, numberGuest, Set.of(3L));
+        final BookingEntity existingEntity =
+                createBookingEntity(startDate, endDate, guest, numberGuest, BookingStatus.CONFIRMED);
+        existingEntity.setVersion(4L);
+
+        when(bookingRepository.findByExternalId(id)).thenReturn(Optional.of(existingEntity));
+
+        Assertions.assertThrows(BookingVersionMismatchException.class, () -> subject.execute(command));
+        verifyNoInteractions(bookingCache);
+
+        verify(bookingRepository, times(1)).findByExternalId(id);
+        verifyNoMoreInteractions(bookingRepository);
+        verifyNoInteractions(availabilityService);
+    }
+
     private static Stream<Arguments> params() {
         return Stream.of(
                 arguments(null, null, null, 0),
@@ -0,0 +1,118 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.booking.domain.Booking;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class BookingCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryInvalidationBus invalidationBus = new InMemoryInvalidationBus();
+    private final BookingCache subject =
+            new BookingCache(100, Duration.ofMinutes(1), meterRegistry, invalidationBus);
+
+    private final String id = "a-id-spec";
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("should load a booking once and then serve it from the cache")
+    void shouldLoadOnce() {
+        final Booking booking = buildBooking(1L);
+
+        subject.get(id, key -> booking);
+        final Booking result = subject.get(id, key -> buildBooking(2L));
+
+        Assertions.assertThat(result).isSameAs(booking);
+    }
+
+    @Test
+    @DisplayName("should replace the entry with a newer version")
+    void shouldReplaceWithNewerVersion() {
+        subject.get(id, key -> buildBooking(1L));
+        subject.put(buildBooking(2L));
+
+        Assertions.assertThat(subject.get(id, key -> null).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("should keep the entry when an older version is put")
+    void shouldKeepNewerVersion() {
+        subject.put(buildBooking(3L));
+        subject.put(buildBooking(2L));
+
+        Assertions.assertThat(subject.get(id, key -> null).getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("should load the booking again after it is evicted")
+    void shouldReloadAfterEvict() {
+        subject.get(id, key -> buildBooking(1L));
+        subject.evict(id);
+
+        Assertions.assertThat(subject.get(id, key -> buildBooking(2L)).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("should evict a booking changed on another node")
+    void shouldEvictOnInvalidation() {
+        subject.get(id, key -> buildBooking(1L));
+        invalidationBus.publish(CacheInvalidation.booking(id, "PROP-0001"));
+
+        Assertions.assertThat(subject.get(id, key -> buildBooking(2L)).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("should apply changes only once the surrounding transaction commits")
+    void shouldApplyAfterCommit() {
+        subject.get(id, key -> buildBooking(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        subject.put(buildBooking(2L));
+
+        Assertions.assertThat(subject.get(id, key -> null).getVersion()).isEqualTo(1L);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        Assertions.assertThat(subject.get(id, key -> null).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("should expose hit ratio and eviction metrics")
+    void shouldExposeMetrics() {
+        subject.get(id, key -> buildBooking(1L));
+        subject.get(id, key -> buildBooking(1L));
+
+        final Gauge hitRatio = meterRegistry.get("cache.hit.ratio").tag("cache", BookingCache.NAME).gauge();
+        final FunctionCounter evictions =
+                meterRegistry.get("cache.evictions").tag("cache", BookingCache.NAME).functionCounter();
+
+        Assertions.assertThat(hitRatio.value()).isEqualTo(0.5);
+        Assertions.assertThat(evictions.count()).isZero();
+    }
+
+    private Booking buildBooking(final Long version) {
+        return new Booking(
+                id,
+                "PROP-0001",
+                LocalDate.of(2025, 1, 2),
+                LocalDate.of(2025, 1, 5),
+                "Daenerys Targaryen",
+                4,
+                "CONFIRMED",
+                version);
+    }
+}
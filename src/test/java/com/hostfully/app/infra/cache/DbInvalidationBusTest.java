@@ -0,0 +1,100 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import com.hostfully.app.infra.entity.CacheInvalidationEntity;
+import com.hostfully.app.infra.repository.CacheInvalidationRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+public class DbInvalidationBusTest {
+
+    @Autowired
+    private CacheInvalidationRepository cacheInvalidationRepository;
+
+    @Test
+    @DisplayName("should deliver invalidations published by other nodes once")
+    void shouldDeliverOtherNodesInvalidations() {
+        final DbInvalidationBus node1 = buildBus();
+        final DbInvalidationBus node2 = buildBus();
+        final List<CacheInvalidation> received1 = new ArrayList<>();
+        final List<CacheInvalidation> received2 = new ArrayList<>();
+        node1.subscribe(Type.BOOKING, received1::add);
+        node2.subscribe(Type.BOOKING, received2::add);
+
+        node1.publish(CacheInvalidation.booking("booking-1", "PROP-0001"));
+        node1.poll();
+        node2.poll();
+        node2.poll();
+
+        Assertions.assertThat(received1).isEmpty();
+        Assertions.assertThat(received2).containsExactly(CacheInvalidation.booking("booking-1", "PROP-0001"));
+    }
+
+    @Test
+    @DisplayName("should only deliver invalidations to the listeners of their type")
+    void shouldDeliverByType() {
+        final DbInvalidationBus node1 = buildBus();
+        final DbInvalidationBus node2 = buildBus();
+        final List<CacheInvalidation> received = new ArrayList<>();
+        node2.subscribe(Type.BLOCK, received::add);
+
+        node1.publish(CacheInvalidation.booking("booking-1", "PROP-0001"));
+        node1.publish(CacheInvalidation.block("block-1", null));
+        node2.poll();
+
+        Assertions.assertThat(received).containsExactly(CacheInvalidation.block("block-1", null));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("should deliver invalidations of every node, this one included, to subscribeAll listeners")
+    void shouldDeliverAllInvalidations() {
+        final DbInvalidationBus node1 = buildBus();
+        final DbInvalidationBus node2 = buildBus();
+        final List<CacheInvalidation> received = new ArrayList<>();
+        node1.subscribeAll(Type.BOOKING, received::add);
+
+        try {
+            node1.publish(CacheInvalidation.booking("booking-1", "PROP-0001"));
+            node2.publish(CacheInvalidation.booking("booking-2", "PROP-0001"));
+            node1.poll();
+            node1.poll();
+
+            Assertions.assertThat(received)
+                    .containsExactly(
+                            CacheInvalidation.booking("booking-1", "PROP-0001"),
+                            CacheInvalidation.booking("booking-2", "PROP-0001"));
+        } finally {
+            cacheInvalidationRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("should purge invalidations older than the retention")
+    void shouldPurgeOldInvalidations() {
+        cacheInvalidationRepository.save(new CacheInvalidationEntity(
+                "other-node", Type.BOOKING, "booking-1", null, Instant.now().minus(Duration.ofHours(2))));
+        cacheInvalidationRepository.save(
+                new CacheInvalidationEntity("other-node", Type.BOOKING, "booking-2", null, Instant.now()));
+
+        buildBus().purge();
+
+        Assertions.assertThat(cacheInvalidationRepository.findAll())
+                .extracting(CacheInvalidationEntity::getEntityKey)
+                .containsExactly("booking-2");
+    }
+
+    private DbInvalidationBus buildBus() {
+        return new DbInvalidationBus(cacheInvalidationRepository, Duration.ofSeconds(10), Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,49 @@
+package com.hostfully.app.infra.cache;
+
+import com.hostfully.app.infra.cache.CacheInvalidation.Type;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class InMemoryInvalidationBusTest {
+
+    private final InMemoryInvalidationBus subject = new InMemoryInvalidationBus();
+    private final List<CacheInvalidation> received = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("should deliver invalidations to the listeners of their type")
+    void shouldDeliverByType() {
+        subject.subscribe(Type.BOOKING, received::add);
+
+        subject.publish(CacheInvalidation.booking("booking-1", "PROP-0001"));
+        subject.publish(CacheInvalidation.block("block-1", "PROP-0001"));
+
+        Assertions.assertThat(received).containsExactly(CacheInvalidation.booking("booking-1", "PROP-0001"));
+    }
+
+    @Test
+    @DisplayName("should deliver invalidations only once the transaction commits")
+    void shouldDeliverAfterCommit() {
+        subject.subscribe(Type.BLOCK, received::add);
+
+        TransactionSynchronizationManager.initSynchronization();
+        subject.publish(CacheInvalidation.block("block-1", "PROP-0001"));
+
+        Assertions.assertThat(received).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        Assertions.assertThat(received).containsExactly(CacheInvalidation.block("block-1", "PROP-0001"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.hostfully.app.infra.cache;
+
+import static org.mockito.Mockito.mock;
+
+import com.hostfully.app.infra.entity.Auditable;
+import com.hostfully.app.infra.entity.BlockEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Every step runs in its own transaction (and session), so reads past the first one can only be served by the
+// second-level cache
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private PropertyEntity property;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        property = propertyRepository.save(audited(new PropertyEntity("PROP-0001", "Beach House", "Beach baby!")));
+        blockRepository.save(audited(new BlockEntity("block-1", property, "Maintenance", today, today.plusDays(2))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockRepository.deleteAll();
+        propertyRepository.deleteAll();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("should load a property by external id and its blocks without statements once cached")
+    void shouldServeWarmReadsFromTheCache() {
+        blocksOf("PROP-0001");
+        statistics.clear();
+
+        Assertions.assertThat(blocksOf("PROP-0001")).containsExactly("block-1:" + today);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+        Assertions.assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        Assertions.assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("should see a block updated after its property's blocks were cached")
+    void shouldSeeUpdatedBlocks() {
+        blocksOf("PROP-0001");
+
+        blockRepository.updateByExternalId(property, "Painting", today.plusDays(5), today.plusDays(6), "block-1");
+
+        Assertions.assertThat(blocksOf("PROP-0001")).containsExactly("block-1:" + today.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("should see a block deleted after its property's blocks were cached")
+    void shouldSeeDeletedBlocks() {
+        blocksOf("PROP-0001");
+
+        blockRepository.deleteByExternalId("block-1");
+
+        Assertions.assertThat(blocksOf("PROP-0001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should see a block created after its property's blocks were cached")
+    void shouldSeeCreatedBlocks() {
+        blocksOf("PROP-0001");
+
+        blockRepository.save(
+                audited(new BlockEntity("block-2", property, "Painting", today.plusDays(5), today.plusDays(6))));
+
+        Assertions.assertThat(blocksOf("PROP-0001"))
+                .containsExactlyInAnyOrder("block-1:" + today, "block-2:" + today.plusDays(5));
+    }
+
+    @Test
+    @DisplayName("should evict the cached blocks when another node changes a block")
+    void shouldEvictOnRemoteBlockChanges() {
+        blocksOf("PROP-0001");
+        Assertions.assertThat(sessionFactory.getCache().containsCollection(
+                        SecondLevelCacheInvalidation.PROPERTY_BLOCKS, property.getId()))
+                .isTrue();
+
+        new SecondLevelCacheInvalidation(entityManagerFactory, mock(InvalidationBus.class))
+                .evictBlocks(CacheInvalidation.block("block-1", "PROP-0001"));
+
+        Assertions.assertThat(sessionFactory.getCache().containsCollection(
+                        SecondLevelCacheInvalidation.PROPERTY_BLOCKS, property.getId()))
+                .isFalse();
+        Assertions.assertThat(blocksOf("PROP-0001")).containsExactly("block-1:" + today);
+    }
+
+    private List<String> blocksOf(final String propertyId) {
+        return transaction.execute(status -> propertyRepository.findByExternalId(propertyId).orElseThrow().getBlocks()
+                .stream()
+                .map(block -> block.getExternalId() + ":" + block.getStartDate())
+                .toList());
+    }
+
+    // Auditing isn't enabled in @DataJpaTest, the timestamps are set by hand
+    private static <T extends Auditable> T audited(final T entity) {
+        entity.setCreatedAt(Instant.now());
+        entity.setUpdatedAt(Instant.now());
+        return entity;
+    }
+}
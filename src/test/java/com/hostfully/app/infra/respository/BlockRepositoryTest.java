@@ -77,6 +77,15 @@ public class BlockRepositoryTest {
         Assertions.assertThat(blockRepository.deleteByExternalId("my-amazing")).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("should return the property id of a block by external id provided")
+    void shouldFindPropertyIdByExternalId() {
+        Assertions.assertThat(blockRepository.findPropertyIdByExternalId("asert-1234"))
+                .contains("PROP-002");
+        Assertions.assertThat(blockRepository.findPropertyIdByExternalId("my-amazing"))
+                .isEmpty();
+    }
+
     @Test
     @DisplayName("should update a block by external id provided")
     void shouldUpdateBlock() {
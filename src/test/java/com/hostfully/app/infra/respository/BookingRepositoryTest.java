@@ -7,6 +7,7 @@ import com.hostfully.app.infra.entity.BookingEntity;
 import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
 import com.hostfully.app.infra.entity.PropertyEntity;
 import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.OccupancyView;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -149,7 +150,8 @@ public class BookingRepositoryTest {
         createAndSaveBooking(
                 "asert-1", property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 20));
 
-        final int result = bookingRepository.updateStatus(BookingStatus.CANCELLED, id);
+        final Long version = bookingRepository.findVersionByExternalId(id).orElseThrow();
+        final int result = bookingRepository.updateStatus(BookingStatus.CANCELLED, id, version);
         entityManager.flush();
         entityManager.clear();
 
@@ -172,7 +174,9 @@ public class BookingRepositoryTest {
         createAndSaveBooking(
                 "asert-1", property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 20));
 
-        final int result = bookingRepository.updateStatusAndTimeframe(BookingStatus.CANCELLED, startDate, endDate, id);
+        final Long version = bookingRepository.findVersionByExternalId(id).orElseThrow();
+        final int result =
+                bookingRepository.updateStatusAndTimeframe(BookingStatus.CANCELLED, startDate, endDate, id, version);
         entityManager.flush();
         entityManager.clear();
 
@@ -198,7 +202,8 @@ public class BookingRepositoryTest {
         createAndSaveBooking(
                 "asert-1", property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 20));
 
-        final int result = bookingRepository.updateStartDateEndGuestNumber(startDate, endDate, guest, 2, id);
+        final Long version = bookingRepository.findVersionByExternalId(id).orElseThrow();
+        final int result = bookingRepository.updateStartDateEndGuestNumber(startDate, endDate, guest, 2, id, version);
         entityManager.flush();
         entityManager.clear();
 
@@ -213,6 +218,61 @@ public class BookingRepositoryTest {
         Assertions.assertThat(entity.getNumberGuest()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("bulk updates bump the booking version")
+    void bulkUpdatesBumpVersion() {
+        final String id = "qwerty-1234";
+        createAndSaveBooking(
+                id, property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 5));
+        final Long version = bookingRepository.findVersionByExternalId(id).orElseThrow();
+
+        bookingRepository.updateStatus(BookingStatus.CANCELLED, id, version);
+        entityManager.clear();
+
+        Assertions.assertThat(bookingRepository.findVersionByExternalId(id)).contains(version + 1);
+        Assertions.assertThat(bookingRepository.findVersionByExternalId("wow-id")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("bulk updates with a stale version don't update any record")
+    void bulkUpdatesWithStaleVersion() {
+        final String id = "qwerty-1234";
+        createAndSaveBooking(
+                id, property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 5));
+        final Long version = bookingRepository.findVersionByExternalId(id).orElseThrow();
+        bookingRepository.updateStatus(BookingStatus.CANCELLED, id, version);
+
+        final int result = bookingRepository.updateStatusAndTimeframe(
+                BookingStatus.CONFIRMED, LocalDate.of(2025, 2, 2), LocalDate.of(2025, 2, 5), id, version);
+        entityManager.clear();
+
+        Assertions.assertThat(result).isZero();
+        Assertions.assertThat(bookingRepository.findByExternalId(id))
+                .get()
+                .extracting(BookingEntity::getStatus)
+                .isEqualTo(BookingStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("should read the confirmed bookings of a property overlapping a span")
+    void findConfirmedOccupancyOfSpan() {
+        createAndSaveBooking(
+                "BOOK-1", property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 5));
+        createAndSaveBooking(
+                "BOOK-2", property1, BookingStatus.CANCELLED, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 8));
+        createAndSaveBooking(
+                "BOOK-3", property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 10), LocalDate.of(2025, 1, 12));
+        createAndSaveBooking(
+                "BOOK-4", property1, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 20), LocalDate.of(2025, 1, 22));
+        createAndSaveBooking(
+                "BOOK-5", property2, BookingStatus.CONFIRMED, LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 8));
+
+        Assertions.assertThat(bookingRepository.findConfirmedOccupancy(
+                        propertyId1, LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 10)))
+                .extracting(OccupancyView::getId)
+                .containsExactlyInAnyOrder("BOOK-1", "BOOK-3");
+    }
+
     private static Stream<Arguments> provideOverlapRanges() {
         return Stream.of(
                 arguments(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 3), propertyId1),
@@ -0,0 +1,131 @@
+package com.hostfully.app.infra.respository;
+
+import com.hostfully.app.shared.util.OverlapConstraint;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// Runs the PostgreSQL migrations (db/postgres) on an embedded PostgreSQL binary and checks the bookings exclusion
+// constraint directly over JDBC
+public class PostgresOverlapConstraintTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    private final LocalDate day = LocalDate.of(2025, 6, 1);
+    private long propertyId;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("filesystem:./db/postgres")
+                .load()
+                .migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bookings, properties CASCADE");
+            try (ResultSet result = statement.executeQuery(
+                    "INSERT INTO properties (external_id, description, alias, created_at, updated_at) "
+                            + "VALUES ('PROP-0001', 'Beach House', 'Beach baby!', now(), now()) RETURNING id")) {
+                result.next();
+                propertyId = result.getLong(1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a confirmed booking overlapping another confirmed booking of the property")
+    void shouldRejectOverlappingConfirmedBooking() throws SQLException {
+        insert("booking-01", "CONFIRMED", day, day.plusDays(5));
+
+        Assertions.assertThatThrownBy(() -> insert("booking-02", "CONFIRMED", day.plusDays(3), day.plusDays(8)))
+                .isInstanceOfSatisfying(SQLException.class, ex -> Assertions.assertThat(ex.getSQLState())
+                        .isEqualTo("23P01"))
+                .matches(OverlapConstraint::isViolatedBy);
+    }
+
+    @Test
+    @DisplayName("should reject a booking starting on the last day of another, both ends of a stay are inclusive")
+    void shouldRejectBookingStartingOnLastDay() throws SQLException {
+        insert("booking-01", "CONFIRMED", day, day.plusDays(5));
+
+        Assertions.assertThatThrownBy(() -> insert("booking-02", "CONFIRMED", day.plusDays(5), day.plusDays(8)))
+                .isInstanceOf(SQLException.class)
+                .matches(OverlapConstraint::isViolatedBy);
+    }
+
+    @Test
+    @DisplayName("should accept adjacent stays and overlaps with cancelled bookings")
+    void shouldAcceptAdjacentAndCancelledBookings() throws SQLException {
+        insert("booking-01", "CONFIRMED", day, day.plusDays(5));
+        insert("booking-02", "CONFIRMED", day.plusDays(6), day.plusDays(8));
+        insert("booking-03", "CANCELLED", day.plusDays(2), day.plusDays(7));
+
+        Assertions.assertThat(count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should reject confirming again a cancelled booking whose stay has been taken")
+    void shouldRejectRebookIntoTakenStay() throws SQLException {
+        insert("booking-01", "CANCELLED", day, day.plusDays(5));
+        insert("booking-02", "CONFIRMED", day.plusDays(1), day.plusDays(3));
+
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            Assertions.assertThatThrownBy(() -> statement.executeUpdate(
+                            "UPDATE bookings SET status = 'CONFIRMED' WHERE external_id = 'booking-01'"))
+                    .matches(OverlapConstraint::isViolatedBy);
+        }
+    }
+
+    private void insert(
+            final String externalId, final String status, final LocalDate startDate, final LocalDate endDate)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO bookings (external_id, property_id, start_date, end_date, guest_name, "
+                                + "number_guest, status, created_at, updated_at) "
+                                + "VALUES (?, ?, ?, ?, 'Guest', 2, ?, now(), now())")) {
+            insert.setString(1, externalId);
+            insert.setLong(2, propertyId);
+            insert.setObject(3, startDate);
+            insert.setObject(4, endDate);
+            insert.setString(5, status);
+            insert.executeUpdate();
+        }
+    }
+
+    private long count() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM bookings")) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.hostfully.app.report.projection;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hostfully.app.infra.entity.BlockEntity;
+import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.DailyOccupancyEntity;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BlockRepository;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.DailyOccupancyRepository;
+import com.hostfully.app.infra.repository.DailyOccupancySummary;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.infra.repository.OutboxOffsetRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Rebuild chunks run on their own threads and transactions, so the data is committed instead of rolled back
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DailyOccupancyProjectionTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    @Autowired
+    private DailyOccupancyRepository dailyOccupancyRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private BlockRepository blockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 31);
+
+    @AfterEach
+    void tearDown() {
+        dailyOccupancyRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        outboxOffsetRepository.deleteAll();
+        bookingRepository.deleteAll();
+        blockRepository.deleteAll();
+        propertyRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should build the projection from the tables on the first run, in chunks of properties")
+    void shouldRebuildOnFirstRun() {
+        final PropertyEntity property1 = propertyRepository.save(new PropertyEntity("PROP-0001", "House", "House"));
+        final PropertyEntity property2 = propertyRepository.save(new PropertyEntity("PROP-0002", "Cabin", "Cabin"));
+        propertyRepository.save(new PropertyEntity("PROP-0003", "Empty", "Empty"));
+        bookingRepository.save(booking("booking-1", property1, BookingStatus.CONFIRMED, 5, 7));
+        bookingRepository.save(booking("booking-2", property2, BookingStatus.CANCELLED, 5, 7));
+        blockRepository.save(new BlockEntity("block-1", property2, "Repairs", day(10), day(11)));
+        final Long last = saveEvent(AggregateType.BLOCK, "block-1", EventType.CREATED, block(10, 11));
+
+        buildProjection().project();
+
+        Assertions.assertThat(dailyOccupancyRepository.findAll())
+                .extracting(DailyOccupancyEntity::getSourceId, DailyOccupancyEntity::getOccupiedOn)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple("booking-1", day(5)),
+                        Assertions.tuple("booking-1", day(6)),
+                        Assertions.tuple("booking-1", day(7)),
+                        Assertions.tuple("block-1", day(10)),
+                        Assertions.tuple("block-1", day(11)));
+        Assertions.assertThat(lastEventId()).isEqualTo(last);
+    }
+
+    @Test
+    @DisplayName("should replace the rows of an aggregate with each of its events")
+    void shouldProjectEvents() {
+        final DailyOccupancyProjection subject = buildProjection();
+        subject.project();
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.CREATED, booking(1, 3, "CONFIRMED"));
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.UPDATED, booking(2, 4, "CONFIRMED"));
+        saveEvent(AggregateType.BOOKING, "booking-2", EventType.CREATED, booking(10, 12, "CONFIRMED"));
+        saveEvent(AggregateType.BOOKING, "booking-2", EventType.CANCELLED, booking(10, 12, "CANCELLED"));
+        saveEvent(AggregateType.BLOCK, "block-1", EventType.CREATED, block(20, 21));
+        final Long last = saveEvent(AggregateType.BLOCK, "block-1", EventType.DELETED, null);
+
+        subject.project();
+
+        Assertions.assertThat(dailyOccupancyRepository.findAll())
+                .extracting(DailyOccupancyEntity::getSourceId, DailyOccupancyEntity::getOccupiedOn)
+                .containsExactlyInAnyOrder(
+                        Assertions.tuple("booking-1", day(2)),
+                        Assertions.tuple("booking-1", day(3)),
+                        Assertions.tuple("booking-1", day(4)));
+        Assertions.assertThat(lastEventId()).isEqualTo(last);
+    }
+
+    @Test
+    @DisplayName("should sum booked and blocked days per property, counting overlapping blocks once")
+    void shouldSummarize() {
+        final DailyOccupancyProjection subject = buildProjection();
+        subject.project();
+        saveEvent(AggregateType.BOOKING, "booking-1", EventType.CREATED, booking(1, 3, "CONFIRMED"));
+        saveEvent(AggregateType.BLOCK, "block-1", EventType.CREATED, block(10, 12));
+        saveEvent(AggregateType.BLOCK, "block-2", EventType.CREATED, block(11, 14));
+        subject.project();
+
+        Assertions.assertThat(dailyOccupancyRepository.summarize(from, to))
+                .singleElement()
+                .satisfies(summary -> {
+                    Assertions.assertThat(summary.getPropertyId()).isEqualTo("PROP-0001");
+                    Assertions.assertThat(summary.getBookedDays()).isEqualTo(3L);
+                    Assertions.assertThat(summary.getBlockedDays()).isEqualTo(5L);
+                });
+        Assertions.assertThat(dailyOccupancyRepository.summarize(day(3), day(10)))
+                .extracting(DailyOccupancySummary::getBookedDays, DailyOccupancySummary::getBlockedDays)
+                .containsExactly(Assertions.tuple(1L, 1L));
+    }
+
+    private DailyOccupancyProjection buildProjection() {
+        return new DailyOccupancyProjection(
+                outboxEventRepository,
+                outboxOffsetRepository,
+                dailyOccupancyRepository,
+                propertyRepository,
+                bookingRepository,
+                bookingArchiveRepository,
+                blockRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                transactionManager,
+                2,
+                1,
+                2,
+                Duration.ofSeconds(2));
+    }
+
+    private Long saveEvent(
+            final AggregateType type, final String id, final EventType eventType, final String payload) {
+        return outboxEventRepository
+                .save(new OutboxEventEntity(
+                        type, id, "PROP-0001", eventType, payload, Instant.now().minus(Duration.ofMinutes(1))))
+                .getId();
+    }
+
+    private Long lastEventId() {
+        return outboxOffsetRepository
+                .findById(DailyOccupancyProjection.CONSUMER)
+                .orElseThrow()
+                .getLastEventId();
+    }
+
+    private static BookingEntity booking(
+            final String id,
+            final PropertyEntity property,
+            final BookingStatus status,
+            final int start,
+            final int end) {
+        return new BookingEntity(id, property, "Guest", 2, status, day(start), day(end));
+    }
+
+    private static String booking(final int start, final int end, final String status) {
+        return "{\"startDate\":\"2025-01-%02d\",\"endDate\":\"2025-01-%02d\",\"status\":\"%s\"}"
+                .formatted(start, end, status);
+    }
+
+    private static String block(final int start, final int end) {
+        return "{\"startDate\":\"2025-01-%02d\",\"endDate\":\"2025-01-%02d\"}".formatted(start, end);
+    }
+
+    private static LocalDate day(final int dayOfMonth) {
+        return LocalDate.of(2025, 1, dayOfMonth);
+    }
+}
@@ -0,0 +1,119 @@
+package com.hostfully.app.report.service;
+
+import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.entity.BookingEntity.BookingStatus;
+import com.hostfully.app.infra.entity.DailyOccupancyEntity;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BookingArchiveRepository;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.DailyOccupancyRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.report.domain.PropertyOccupancy;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Leaves run on the fork/join pool in their own transactions, so the data is committed instead of rolled back
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OccupancyAggregatorTest {
+
+    @Autowired
+    private DailyOccupancyRepository dailyOccupancyRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private OccupancyAggregator subject;
+
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 10);
+
+    @BeforeEach
+    void setUp() {
+        // One property per leaf
+        subject = new OccupancyAggregator(
+                dailyOccupancyRepository, bookingRepository, bookingArchiveRepository, transactionManager, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subject.shutdown();
+        dailyOccupancyRepository.deleteAll();
+        bookingRepository.deleteAll();
+        propertyRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("should aggregate nights, cancellation rate and average length of stay per property")
+    void shouldAggregatePerProperty() {
+        final PropertyEntity property1 = propertyRepository.save(new PropertyEntity("PROP-0001", "House", "House"));
+        final PropertyEntity property2 = propertyRepository.save(new PropertyEntity("PROP-0002", "Cabin", "Cabin"));
+        bookingRepository.save(booking("booking-1", property1, BookingStatus.CONFIRMED, 2, 4));
+        bookingRepository.save(booking("booking-2", property1, BookingStatus.CONFIRMED, 9, 12));
+        bookingRepository.save(booking("booking-3", property1, BookingStatus.CANCELLED, 6, 7));
+        bookingRepository.save(booking("booking-4", property1, BookingStatus.CONFIRMED, 20, 21));
+        occupy(property1, AggregateType.BOOKING, "booking-1", 2, 4);
+        occupy(property1, AggregateType.BOOKING, "booking-2", 9, 12);
+        occupy(property2, AggregateType.BLOCK, "block-1", 1, 3);
+        occupy(property2, AggregateType.BLOCK, "block-2", 3, 5);
+
+        final List<PropertyOccupancy> report = subject.aggregate(List.of("PROP-0002", "PROP-0001"), from, to);
+
+        Assertions.assertThat(report)
+                .containsExactly(
+                        new PropertyOccupancy("PROP-0001", 5, 0, 0.5, 1 / 3.0, 3.5),
+                        new PropertyOccupancy("PROP-0002", 0, 5, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("should report nothing, when there are no properties")
+    void shouldReportNothing() {
+        Assertions.assertThat(subject.aggregate(List.of(), from, to)).isEmpty();
+    }
+
+    private void occupy(
+            final PropertyEntity property,
+            final AggregateType type,
+            final String sourceId,
+            final int start,
+            final int end) {
+        final List<DailyOccupancyEntity> days = new ArrayList<>();
+        for (int day = start; day <= end; day++)
+            days.add(new DailyOccupancyEntity(property.getExternalId(), day(day), type, sourceId));
+        dailyOccupancyRepository.saveAll(days);
+    }
+
+    private static BookingEntity booking(
+            final String id,
+            final PropertyEntity property,
+            final BookingStatus status,
+            final int start,
+            final int end) {
+        return new BookingEntity(id, property, "Guest", 2, status, day(start), day(end));
+    }
+
+    private static LocalDate day(final int dayOfMonth) {
+        return LocalDate.of(2025, 1, dayOfMonth);
+    }
+}
@@ -0,0 +1,93 @@
+package com.hostfully.app.report.usecase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hostfully.app.infra.cache.OccupancyReportCache;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.report.domain.OccupancyReport;
+import com.hostfully.app.report.domain.PropertyOccupancy;
+import com.hostfully.app.report.service.OccupancyAggregator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class GetOccupancyReportTest {
+
+    private final OccupancyAggregator occupancyAggregator = mock(OccupancyAggregator.class);
+    private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
+    private final OccupancyReportCache occupancyReportCache =
+            new OccupancyReportCache(10, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    private final GetOccupancyReport subject =
+            new GetOccupancyReport(occupancyReportCache, occupancyAggregator, propertyRepository);
+
+    private final LocalDate from = LocalDate.of(2025, 1, 1);
+    private final LocalDate to = LocalDate.of(2025, 1, 31);
+    private final PropertyOccupancy occupancy = new PropertyOccupancy("PROP-0001", 10, 2, 10 / 31.0, 0.5, 5);
+
+    @BeforeEach
+    void setUp() {
+        when(propertyRepository.findAllExternalIds()).thenReturn(List.of("PROP-0001", "PROP-0002", "PROP-0003"));
+        when(occupancyAggregator.aggregate(anyList(), any(), any())).thenReturn(List.of(occupancy));
+    }
+
+    @Test
+    @DisplayName("should aggregate every property, when no portfolio is given")
+    void shouldReportEveryProperty() {
+        final OccupancyReport report = subject.execute(from, to, null);
+
+        Assertions.assertThat(report.from()).isEqualTo(from);
+        Assertions.assertThat(report.to()).isEqualTo(to);
+        Assertions.assertThat(report.properties()).containsExactly(occupancy);
+        verify(occupancyAggregator).aggregate(List.of("PROP-0001", "PROP-0002", "PROP-0003"), from, to);
+    }
+
+    @Test
+    @DisplayName("should aggregate only the properties of the portfolio that exist")
+    void shouldReportPortfolio() {
+        subject.execute(from, to, List.of("PROP-0003", "PROP-0001", "UNKNOWN"));
+
+        verify(occupancyAggregator).aggregate(List.of("PROP-0001", "PROP-0003"), from, to);
+    }
+
+    @Test
+    @DisplayName("should serve the same period and portfolio from the cache, whatever the order of its ids")
+    void shouldCacheReports() {
+        final OccupancyReport report = subject.execute(from, to, List.of("PROP-0001", "PROP-0002"));
+
+        Assertions.assertThat(subject.execute(from, to, List.of("PROP-0002", "PROP-0001", "PROP-0002")))
+                .isSameAs(report);
+        subject.execute(from, to.plusDays(1), List.of("PROP-0001", "PROP-0002"));
+        verify(occupancyAggregator, times(2)).aggregate(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should generate a report again, when generating it failed")
+    void shouldNotCacheFailures() {
+        when(occupancyAggregator.aggregate(anyList(), any(), any()))
+                .thenThrow(new IllegalStateException("aggregation failed"))
+                .thenReturn(List.of(occupancy));
+
+        Assertions.assertThatThrownBy(() -> subject.execute(from, to, null))
+                .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(subject.execute(from, to, null).properties()).containsExactly(occupancy);
+        verify(occupancyAggregator, times(2)).aggregate(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should throw InvalidDateRangeException, when the period ends before it starts")
+    void shouldThrowInvalidDateRangeException() {
+        Assertions.assertThatThrownBy(() -> subject.execute(to, from, null))
+                .isInstanceOf(InvalidDateRangeException.class);
+    }
+}
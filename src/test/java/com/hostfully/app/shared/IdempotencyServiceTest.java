@@ -12,6 +12,7 @@ import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 public class IdempotencyServiceTest {
@@ -85,5 +86,18 @@ public class IdempotencyServiceTest {
         Assertions.assertThrows(RuntimeException.class, () -> subject.getResponse(any(), any()));
     }
 
+    @Test
+    @DisplayName("should propagate a key saved already unchanged")
+    void shouldPropagateDuplicateKey() {
+        final DataIntegrityViolationException duplicate = new DataIntegrityViolationException("duplicate key");
+        when(idempotencyRepository.save(any())).thenThrow(duplicate);
+
+        Assertions.assertSame(
+                duplicate,
+                Assertions.assertThrows(
+                        DataIntegrityViolationException.class,
+                        () -> subject.saveResponse(UUID.randomUUID(), new TestResponse("test-value", 30))));
+    }
+
     public record TestResponse(String name, Integer age) {}
 }
@@ -0,0 +1,69 @@
+package com.hostfully.app.shared.admission;
+
+import com.hostfully.app.shared.exception.AdmissionRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControlTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionControl subject = new AdmissionControl(1, 2, Duration.ofSeconds(1), meterRegistry);
+
+    @Test
+    @DisplayName("should run the action and release its permits once done")
+    void shouldAdmit() {
+        Assertions.assertThat(subject.admit("PROP-0001", () -> subject.inFlight()))
+                .isEqualTo(1);
+        Assertions.assertThat(subject.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a request when the property is at its cap, other properties are still admitted")
+    void shouldRejectWhenPropertyIsAtCap() {
+        subject.admit("PROP-0001", () -> {
+            Assertions.assertThatThrownBy(() -> subject.admit("PROP-0001", () -> "nested"))
+                    .isInstanceOf(AdmissionRejectedException.class)
+                    .extracting("retryAfter")
+                    .isEqualTo(Duration.ofSeconds(1));
+            Assertions.assertThat(subject.admit("PROP-0002", () -> "other")).isEqualTo("other");
+            return null;
+        });
+
+        Assertions.assertThat(meterRegistry
+                        .counter("admission.rejected", "scope", "property")
+                        .count())
+                .isEqualTo(1);
+        Assertions.assertThat(subject.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should reject a request when the node is at its cap")
+    void shouldRejectWhenNodeIsAtCap() {
+        subject.admit("PROP-0001", () -> subject.admit("PROP-0002", () -> {
+            Assertions.assertThatThrownBy(() -> subject.admit("PROP-0003", () -> "nested"))
+                    .isInstanceOf(AdmissionRejectedException.class);
+            return null;
+        }));
+
+        Assertions.assertThat(meterRegistry
+                        .counter("admission.rejected", "scope", "node")
+                        .count())
+                .isEqualTo(1);
+        Assertions.assertThat(subject.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("should release the permits when the action fails")
+    void shouldReleaseOnFailure() {
+        Assertions.assertThatThrownBy(() -> subject.admit("PROP-0001", () -> {
+                    throw new IllegalStateException("error");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        Assertions.assertThat(subject.admit("PROP-0001", () -> "again")).isEqualTo("again");
+        Assertions.assertThat(subject.inFlight()).isZero();
+    }
+}
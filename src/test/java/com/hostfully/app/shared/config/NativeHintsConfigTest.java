@@ -0,0 +1,49 @@
+package com.hostfully.app.shared.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.infra.entity.BookingEntity;
+import com.hostfully.app.infra.entity.Idempotency;
+import com.hostfully.app.shared.logging.JsonLogEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+public class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("should register field access on the entities")
+    void shouldRegisterEntities() {
+        assertThat(RuntimeHintsPredicates.reflection()
+                        .onType(BookingEntity.class)
+                        .withMemberCategory(MemberCategory.DECLARED_FIELDS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Idempotency.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should register Jackson binding for the types serialized outside controllers")
+    void shouldRegisterJsonBinding() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Booking.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Booking.class.getMethod("getStartDate")))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should register the log encoder and the cache regions")
+    void shouldRegisterEncoderAndCacheRegions() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(JsonLogEncoder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("hibernate-caches.conf")).accepts(hints);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hostfully.app.shared.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+public class ReadReplicaDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+            .withUserConfiguration(ReadReplicaDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary-tst;DB_CLOSE_DELAY=-1",
+                    "spring.datasource.username=user",
+                    "spring.datasource.password=qwerty");
+
+    @Test
+    @DisplayName("should route read-only connections to the replica and the others to the primary")
+    void shouldRouteReadOnlyConnectionsToReplica() {
+        contextRunner
+                .withPropertyValues(
+                        "datasource.replica.jdbc-url=jdbc:h2:mem:replica-tst;DB_CLOSE_DELAY=-1",
+                        "datasource.replica.username=user",
+                        "datasource.replica.password=qwerty")
+                .run(context -> {
+                    final DataSource dataSource = context.getBean(DataSource.class);
+
+                    assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+                    assertThat(databaseName(dataSource, false)).isEqualToIgnoringCase("primary-tst");
+                    assertThat(databaseName(dataSource, true)).isEqualToIgnoringCase("replica-tst");
+                });
+    }
+
+    @Test
+    @DisplayName("should keep the single auto-configured datasource, when no replica is configured")
+    void shouldNotRouteWithoutReplica() {
+        contextRunner.run(context -> assertThat(context.getBean(DataSource.class))
+                .isNotInstanceOf(LazyConnectionDataSourceProxy.class));
+    }
+
+    private String databaseName(final DataSource dataSource, final boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (ResultSet result = connection.createStatement().executeQuery("SELECT DATABASE()")) {
+                result.next();
+                return result.getString(1);
+            }
+        }
+    }
+}
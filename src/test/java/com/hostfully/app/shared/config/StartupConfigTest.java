@@ -0,0 +1,64 @@
+package com.hostfully.app.shared.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class StartupConfigTest {
+
+    @Test
+    @DisplayName("should make springdoc beans lazy and leave the others alone")
+    void shouldMakeSpringdocBeansLazy() {
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("springDocConfigProperties", definition("org.springdoc.core.SpringDoc"));
+        beanFactory.registerBeanDefinition("getBooking", definition("com.hostfully.app.booking.usecase.GetBooking"));
+
+        StartupConfig.lazySpringdocBeans().postProcessBeanFactory(beanFactory);
+
+        assertThat(beanFactory.getBeanDefinition("springDocConfigProperties").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("getBooking").isLazyInit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should load the H2 console servlet on its first request")
+    void shouldNotLoadH2ConsoleOnStartup() {
+        final BeanPostProcessor subject = StartupConfig.lazyH2Console();
+        final ServletRegistrationBean<HttpServlet> h2Console = registration();
+        final ServletRegistrationBean<HttpServlet> other = registration();
+
+        subject.postProcessBeforeInitialization(h2Console, StartupConfig.H2_CONSOLE);
+        subject.postProcessBeforeInitialization(other, "otherServlet");
+
+        assertThat(ReflectionTestUtils.getField(h2Console, "loadOnStartup")).isEqualTo(-1);
+        assertThat(ReflectionTestUtils.getField(other, "loadOnStartup")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should register nothing, when disabled")
+    void shouldRegisterNothingWhenDisabled() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(StartupConfig.class)
+                .withPropertyValues("startup.lazy-non-critical-beans=false")
+                .run(context -> assertThat(context).doesNotHaveBean(StartupConfig.class));
+    }
+
+    private static RootBeanDefinition definition(final String className) {
+        final RootBeanDefinition definition = new RootBeanDefinition();
+        definition.setBeanClassName(className);
+        return definition;
+    }
+
+    private static ServletRegistrationBean<HttpServlet> registration() {
+        final ServletRegistrationBean<HttpServlet> registration = new ServletRegistrationBean<>(new HttpServlet() {});
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
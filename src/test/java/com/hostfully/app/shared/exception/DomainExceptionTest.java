@@ -0,0 +1,39 @@
+package com.hostfully.app.shared.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hostfully.app.block.exceptions.BlockNotFoundException;
+import com.hostfully.app.block.exceptions.OverlapBlockException;
+import com.hostfully.app.booking.exception.BookingNotFoundException;
+import com.hostfully.app.booking.exception.OverlapBookingException;
+import com.hostfully.app.booking.exception.RebookNotAllowedException;
+import com.hostfully.app.booking.exception.UpdateNotAllowedException;
+import com.hostfully.app.infra.exception.InvalidDateRangeException;
+import com.hostfully.app.infra.exception.PropertyNotFoundException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class DomainExceptionTest {
+
+    @ParameterizedTest
+    @MethodSource("rejections")
+    @DisplayName("should not capture stack trace, when a domain rejection is created")
+    void shouldNotCaptureStackTrace(final DomainException exception) {
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getTitle()).isNotBlank();
+    }
+
+    private static Stream<DomainException> rejections() {
+        return Stream.of(
+                new OverlapBookingException("overlap"),
+                new OverlapBlockException("overlap"),
+                new BookingNotFoundException("not found"),
+                new BlockNotFoundException("not found"),
+                new PropertyNotFoundException("not found"),
+                new InvalidDateRangeException("invalid"),
+                new RebookNotAllowedException("not allowed"),
+                new UpdateNotAllowedException("not allowed"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.hostfully.app.shared.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class JsonLogEncoderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final JsonLogEncoder subject = new JsonLogEncoder();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeEach
+    void setup() {
+        subject.setContext(context);
+        subject.start();
+    }
+
+    @Test
+    @DisplayName("should encode event as a single JSON line carrying the MDC context")
+    void shouldEncodeEventWithContext() throws Exception {
+        final LoggingEvent event = buildEvent("Failed to create a booking: \"BOOK-1\"\n", null);
+        event.setMDCPropertyMap(Map.of(
+                LogContext.REQUEST_ID, "req-1", LogContext.PROPERTY_ID, "PROP-1", LogContext.USE_CASE, "CreateBooking"));
+
+        final String line = new String(subject.encode(event), StandardCharsets.UTF_8);
+        final JsonNode json = mapper.readTree(line);
+
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(line).endsWith("}\n");
+            softAssertions.assertThat(line.indexOf('\n')).isEqualTo(line.length() - 1);
+            softAssertions.assertThat(json.get("level").asText()).isEqualTo("ERROR");
+            softAssertions.assertThat(json.get("message").asText()).isEqualTo("Failed to create a booking: \"BOOK-1\"\n");
+            softAssertions.assertThat(json.get("requestId").asText()).isEqualTo("req-1");
+            softAssertions.assertThat(json.get("propertyId").asText()).isEqualTo("PROP-1");
+            softAssertions.assertThat(json.get("useCase").asText()).isEqualTo("CreateBooking");
+            softAssertions.assertThat(json.has("exception")).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("should include the stack trace, when event carries a throwable")
+    void shouldEncodeThrowable() throws Exception {
+        final LoggingEvent event = buildEvent("boom", new IllegalStateException("cause"));
+
+        final JsonNode json = mapper.readTree(subject.encode(event));
+
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(json.get("exception").asText()).contains("IllegalStateException: cause");
+            softAssertions.assertThat(json.has("requestId")).isFalse();
+        });
+    }
+
+    private LoggingEvent buildEvent(final String message, final Throwable throwable) {
+        return new LoggingEvent(
+                JsonLogEncoderTest.class.getName(),
+                context.getLogger(JsonLogEncoderTest.class),
+                Level.ERROR,
+                message,
+                throwable,
+                null);
+    }
+}
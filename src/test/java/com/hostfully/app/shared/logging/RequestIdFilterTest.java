@@ -0,0 +1,47 @@
+package com.hostfully.app.shared.logging;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class RequestIdFilterTest {
+
+    private final RequestIdFilter subject = new RequestIdFilter();
+
+    @Test
+    @DisplayName("should propagate the request id header to MDC and response, and clear MDC afterwards")
+    void shouldPropagateRequestId() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/bookings/BOOK-1");
+        request.addHeader(RequestIdFilter.REQUEST_ID_HEADER, "req-123");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final AtomicReference<String> seen = new AtomicReference<>();
+
+        subject.doFilter(request, response, (req, res) -> {
+            seen.set(MDC.get(LogContext.REQUEST_ID));
+            MDC.put(LogContext.PROPERTY_ID, "PROP-1");
+        });
+
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(seen.get()).isEqualTo("req-123");
+            softAssertions.assertThat(response.getHeader(RequestIdFilter.REQUEST_ID_HEADER)).isEqualTo("req-123");
+            softAssertions.assertThat(MDC.get(LogContext.REQUEST_ID)).isNull();
+            softAssertions.assertThat(MDC.get(LogContext.PROPERTY_ID)).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should generate a request id, when header is missing")
+    void shouldGenerateRequestId() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        subject.doFilter(new MockHttpServletRequest("GET", "/v1/bookings/BOOK-1"), response, new MockFilterChain());
+
+        SoftAssertions.assertSoftly(softAssertions ->
+                softAssertions.assertThat(response.getHeader(RequestIdFilter.REQUEST_ID_HEADER)).isNotBlank());
+    }
+}
@@ -0,0 +1,123 @@
+package com.hostfully.app.shared.outbox;
+
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.infra.repository.OutboxOffsetRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+public class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    private final CapturingPublisher publisher = new CapturingPublisher();
+
+    @Test
+    @DisplayName("should relay events in id order and move the offset past them")
+    void shouldRelayInOrder() {
+        final OutboxRelay subject = buildRelay(2);
+        final Long first = saveEvent("booking-1", "PROP-0001", Duration.ofMinutes(1));
+        saveEvent("booking-2", "PROP-0002", Duration.ofMinutes(1));
+        final Long last = saveEvent("booking-1", "PROP-0001", Duration.ofMinutes(1));
+
+        subject.relay();
+        subject.relay();
+        subject.relay();
+
+        Assertions.assertThat(publisher.published)
+                .extracting(OutboxEvent::aggregateId)
+                .containsExactly("booking-1", "booking-2", "booking-1");
+        Assertions.assertThat(publisher.published.getFirst().id()).isEqualTo(first);
+        Assertions.assertThat(lastEventId()).isEqualTo(last);
+    }
+
+    @Test
+    @DisplayName("should leave events that may still have uncommitted predecessors for the next run")
+    void shouldLeaveRecentEvents() {
+        final OutboxRelay subject = buildRelay(10);
+        saveEvent("booking-1", "PROP-0001", Duration.ofMinutes(1));
+        saveEvent("booking-2", "PROP-0001", Duration.ZERO);
+
+        subject.relay();
+
+        Assertions.assertThat(publisher.published).extracting(OutboxEvent::aggregateId).containsExactly("booking-1");
+    }
+
+    @Test
+    @DisplayName("should keep the offset when publishing fails, so the batch is delivered again")
+    void shouldKeepOffsetOnFailure() {
+        final OutboxRelay subject = buildRelay(10);
+        saveEvent("booking-1", "PROP-0001", Duration.ofMinutes(1));
+        publisher.fail = true;
+
+        Assertions.assertThatThrownBy(subject::relay).isInstanceOf(IllegalStateException.class);
+
+        Assertions.assertThat(lastEventId()).isZero();
+    }
+
+    @Test
+    @DisplayName("should purge delivered events older than the retention")
+    void shouldPurgeDeliveredEvents() {
+        final OutboxRelay subject = buildRelay(10);
+        saveEvent("booking-1", "PROP-0001", Duration.ofDays(10));
+        saveEvent("booking-2", "PROP-0001", Duration.ofMinutes(1));
+
+        subject.relay();
+        subject.purge();
+
+        Assertions.assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEventEntity::getAggregateId)
+                .containsExactly("booking-2");
+    }
+
+    private OutboxRelay buildRelay(final int batchSize) {
+        return new OutboxRelay(
+                outboxEventRepository,
+                outboxOffsetRepository,
+                publisher,
+                batchSize,
+                Duration.ofSeconds(2),
+                Duration.ofDays(7));
+    }
+
+    private Long saveEvent(final String bookingId, final String propertyId, final Duration age) {
+        final OutboxEventEntity event = new OutboxEventEntity(
+                AggregateType.BOOKING, bookingId, propertyId, EventType.UPDATED, "{}", Instant.now().minus(age));
+        return outboxEventRepository.save(event).getId();
+    }
+
+    private Long lastEventId() {
+        return outboxOffsetRepository.findById(publisher.name()).orElseThrow().getLastEventId();
+    }
+
+    private static class CapturingPublisher implements OutboxPublisher {
+
+        private final List<OutboxEvent> published = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public void publish(final List<OutboxEvent> events) {
+            if (fail) throw new IllegalStateException("broker unavailable");
+            published.addAll(events);
+        }
+    }
+}
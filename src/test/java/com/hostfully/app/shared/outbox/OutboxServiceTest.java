@@ -0,0 +1,92 @@
+package com.hostfully.app.shared.outbox;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hostfully.app.block.domain.Block;
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.infra.entity.OutboxEventEntity;
+import com.hostfully.app.infra.repository.OutboxEventRepository;
+import com.hostfully.app.shared.outbox.OutboxEvent.AggregateType;
+import com.hostfully.app.shared.outbox.OutboxEvent.EventType;
+import java.time.LocalDate;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class OutboxServiceTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final OutboxService subject = new OutboxService(outboxEventRepository, mapper);
+
+    @Test
+    @DisplayName("should record a booking change with the booking as payload")
+    void shouldRecordBookingChange() {
+        final Booking booking = new Booking(
+                "booking-1",
+                "PROP-0001",
+                LocalDate.of(2025, 1, 2),
+                LocalDate.of(2025, 1, 5),
+                "Daenerys Targaryen",
+                4,
+                "CONFIRMED",
+                3L);
+
+        subject.bookingChanged(EventType.UPDATED, booking);
+
+        final OutboxEventEntity event = captureEvent();
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(event.getAggregateType()).isEqualTo(AggregateType.BOOKING);
+            softAssertions.assertThat(event.getAggregateId()).isEqualTo("booking-1");
+            softAssertions.assertThat(event.getPropertyId()).isEqualTo("PROP-0001");
+            softAssertions.assertThat(event.getEventType()).isEqualTo(EventType.UPDATED);
+            softAssertions.assertThat(event.getPayload()).contains("\"startDate\":\"2025-01-02\"");
+            softAssertions.assertThat(event.getPayload()).doesNotContain("version");
+            softAssertions.assertThat(event.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("should record a block change with the block as payload")
+    void shouldRecordBlockChange() {
+        final Block block = new Block(
+                "block-1", "PROP-0001", "Dry wall maintenance", LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 5));
+
+        subject.blockChanged(EventType.CREATED, block);
+
+        final OutboxEventEntity event = captureEvent();
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(event.getAggregateType()).isEqualTo(AggregateType.BLOCK);
+            softAssertions.assertThat(event.getAggregateId()).isEqualTo("block-1");
+            softAssertions.assertThat(event.getEventType()).isEqualTo(EventType.CREATED);
+            softAssertions.assertThat(event.getPayload()).contains("\"reason\":\"Dry wall maintenance\"");
+        });
+    }
+
+    @Test
+    @DisplayName("should record a delete without payload")
+    void shouldRecordDelete() {
+        subject.deleted(AggregateType.BOOKING, "booking-1", "PROP-0001");
+
+        final OutboxEventEntity event = captureEvent();
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(event.getAggregateId()).isEqualTo("booking-1");
+            softAssertions.assertThat(event.getPropertyId()).isEqualTo("PROP-0001");
+            softAssertions.assertThat(event.getEventType()).isEqualTo(EventType.DELETED);
+            softAssertions.assertThat(event.getPayload()).isNull();
+        });
+    }
+
+    private OutboxEventEntity captureEvent() {
+        final ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(outboxEventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,93 @@
+package com.hostfully.app.shared.pool;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class AdaptivePoolSizerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HikariDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("should grow the pool by step while threads wait for a connection, up to max-size")
+    void shouldGrowWhileThreadsWait() throws Exception {
+        dataSource = buildDataSource(2);
+        final AdaptivePoolSizer subject =
+                new AdaptivePoolSizer(dataSource, meterRegistry, 2, 3, 2, Duration.ofMillis(5));
+
+        try (Connection first = dataSource.getConnection();
+                Connection second = dataSource.getConnection()) {
+            final CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+                try (Connection third = dataSource.getConnection()) {
+                    // Released right away
+                } catch (SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            while (dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) Thread.sleep(5);
+
+            subject.adjust();
+            Assertions.assertThat(dataSource.getMaximumPoolSize()).isEqualTo(3);
+            waiting.get();
+        }
+
+        Assertions.assertThat(meterRegistry
+                        .counter("datasource.pool.resized", "direction", "grow")
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should shrink an idle pool by one per run down to min-size")
+    void shouldShrinkIdlePool() throws Exception {
+        dataSource = buildDataSource(4);
+        final AdaptivePoolSizer subject =
+                new AdaptivePoolSizer(dataSource, meterRegistry, 3, 10, 1, Duration.ofSeconds(1));
+
+        subject.adjust();
+        Assertions.assertThat(dataSource.getMaximumPoolSize()).isEqualTo(3);
+        Assertions.assertThat(dataSource.getMinimumIdle()).isEqualTo(3);
+
+        subject.adjust();
+        Assertions.assertThat(dataSource.getMaximumPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should grow over the target acquire time, and shrink under half of it only with spare connections")
+    void shouldFollowAcquireTime() throws Exception {
+        dataSource = buildDataSource(4);
+        final AdaptivePoolSizer subject =
+                new AdaptivePoolSizer(dataSource, meterRegistry, 2, 10, 2, Duration.ofMillis(10));
+
+        Assertions.assertThat(subject.nextSize(4, 7_000_000, 0, 0)).isEqualTo(4);
+        Assertions.assertThat(subject.nextSize(4, 12_000_000, 0, 4)).isEqualTo(6);
+        Assertions.assertThat(subject.nextSize(4, 1_000_000, 0, 3)).isEqualTo(4);
+        Assertions.assertThat(subject.nextSize(4, 1_000_000, 0, 1)).isEqualTo(3);
+    }
+
+    private HikariDataSource buildDataSource(final int maximumPoolSize) {
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:adaptive-pool-sizer;DB_CLOSE_DELAY=-1");
+        config.setPoolName("sizer-test");
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(maximumPoolSize);
+        config.setConnectionTimeout(5_000);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
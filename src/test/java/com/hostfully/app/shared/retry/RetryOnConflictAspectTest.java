@@ -0,0 +1,85 @@
+package com.hostfully.app.shared.retry;
+
+import com.hostfully.app.booking.exception.BookingConflictException;
+import com.hostfully.app.booking.exception.BookingNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+public class RetryOnConflictAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetryOnConflictAspect aspect =
+            new RetryOnConflictAspect(3, Duration.ofMillis(1), Duration.ofMillis(5), meterRegistry);
+
+    @Test
+    @DisplayName("should run the use case again when it conflicts, until it succeeds")
+    void shouldRetryOnConflict() {
+        final FlakyUseCase useCase = proxy(new FlakyUseCase(2));
+
+        Assertions.assertThat(useCase.execute()).isEqualTo("done");
+        Assertions.assertThat(useCase.calls()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry
+                        .counter("retry.conflict", "useCase", "FlakyUseCase")
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should give up with the conflict once the attempts are exhausted")
+    void shouldGiveUpAfterMaxAttempts() {
+        final FlakyUseCase useCase = proxy(new FlakyUseCase(5));
+
+        Assertions.assertThatThrownBy(useCase::execute).isInstanceOf(BookingConflictException.class);
+        Assertions.assertThat(useCase.calls()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should not retry other exceptions")
+    void shouldNotRetryOtherExceptions() {
+        final FlakyUseCase useCase = proxy(new FlakyUseCase(0));
+
+        Assertions.assertThatThrownBy(useCase::notFound).isInstanceOf(BookingNotFoundException.class);
+        Assertions.assertThat(useCase.calls()).isEqualTo(1);
+    }
+
+    private FlakyUseCase proxy(final FlakyUseCase target) {
+        final AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    static class FlakyUseCase {
+
+        private final int conflicts;
+        private int calls;
+
+        FlakyUseCase() {
+            this(0);
+        }
+
+        FlakyUseCase(final int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        @RetryOnConflict
+        public String execute() {
+            if (++calls <= conflicts) throw new BookingConflictException("conflict");
+            return "done";
+        }
+
+        @RetryOnConflict
+        public String notFound() {
+            calls++;
+            throw new BookingNotFoundException("not found");
+        }
+
+        public int calls() {
+            return calls;
+        }
+    }
+}
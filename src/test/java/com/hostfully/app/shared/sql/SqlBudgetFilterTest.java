@@ -0,0 +1,60 @@
+package com.hostfully.app.shared.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class SqlBudgetFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("should record the statements of the request and only warn when it is over budget")
+    void shouldWarnOverBudget() throws Exception {
+        final SqlBudgetFilter subject = new SqlBudgetFilter(2, Duration.ofSeconds(1), false, meterRegistry);
+
+        subject.doFilter(request(), new MockHttpServletResponse(), (req, res) -> runStatements(3));
+
+        Assertions.assertThat(meterRegistry.summary("sql.request.statements").totalAmount())
+                .isEqualTo(3);
+        Assertions.assertThat(meterRegistry.timer("sql.request.time").count()).isEqualTo(1);
+        Assertions.assertThat(MDC.get(SqlBudgetFilter.SQL_FINGERPRINTS)).isNull();
+    }
+
+    @Test
+    @DisplayName("should fail a request over the statement budget when fail-on-exceed is set")
+    void shouldFailOverBudget() {
+        final SqlBudgetFilter subject = new SqlBudgetFilter(2, Duration.ofSeconds(1), true, meterRegistry);
+
+        Assertions.assertThatThrownBy(() ->
+                        subject.doFilter(request(), new MockHttpServletResponse(), (req, res) -> runStatements(3)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ran 3 SQL statements, over the budget of 2")
+                .hasMessageContaining("select * from bookings where id = ?");
+    }
+
+    @Test
+    @DisplayName("should let a request within the statement budget through when fail-on-exceed is set")
+    void shouldPassWithinBudget() throws Exception {
+        final SqlBudgetFilter subject = new SqlBudgetFilter(2, Duration.ofSeconds(1), true, meterRegistry);
+
+        subject.doFilter(request(), new MockHttpServletResponse(), (req, res) -> runStatements(2));
+
+        Assertions.assertThat(meterRegistry.summary("sql.request.statements").max())
+                .isEqualTo(2);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/v1/bookings/BOOK-1");
+    }
+
+    private void runStatements(final int count) {
+        for (int statement = 0; statement < count; statement++)
+            SqlStatementRecorder.record("select * from bookings where id = " + statement, 1_000);
+    }
+}
@@ -0,0 +1,24 @@
+package com.hostfully.app.shared.sql;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SqlFingerprintTest {
+
+    @Test
+    @DisplayName("should replace literals by placeholders and collapse whitespace")
+    void shouldReplaceLiterals() {
+        Assertions.assertThat(SqlFingerprint.of(
+                        "select b1_0.id from bookings b1_0\n  where b1_0.status = 'CONFIRMED' and b1_0.version = 3"))
+                .isEqualTo("select b1_0.id from bookings b1_0 where b1_0.status = ? and b1_0.version = ?");
+    }
+
+    @Test
+    @DisplayName("should fold lists of placeholders, so IN lists of any size share a fingerprint")
+    void shouldFoldPlaceholderLists() {
+        Assertions.assertThat(SqlFingerprint.of("delete from bookings where id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.of("delete from bookings where id in (?,?)"))
+                .isEqualTo("delete from bookings where id in (?...)");
+    }
+}
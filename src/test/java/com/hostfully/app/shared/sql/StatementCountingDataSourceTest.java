@@ -0,0 +1,74 @@
+package com.hostfully.app.shared.sql;
+
+import com.hostfully.app.shared.sql.SqlStatementRecorder.Recording;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class StatementCountingDataSourceTest {
+
+    private final DriverManagerDataSource target =
+            new DriverManagerDataSource("jdbc:h2:mem:statement-counting;DB_CLOSE_DELAY=-1", "user", "qwerty");
+    private final StatementCountingDataSource subject = new StatementCountingDataSource(target, Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("should count and fingerprint the statements run inside a recording")
+    void shouldCountStatements() throws SQLException {
+        try (Recording recording = SqlStatementRecorder.start();
+                Connection connection = subject.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS guests (id INT PRIMARY KEY, name VARCHAR(50))");
+                statement.execute("DELETE FROM guests");
+            }
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO guests VALUES (?, ?)")) {
+                for (int id = 1; id <= 2; id++) {
+                    insert.setInt(1, id);
+                    insert.setString(2, "Guest " + id);
+                    insert.executeUpdate();
+                }
+            }
+
+            Assertions.assertThat(recording.statements()).isEqualTo(4);
+            Assertions.assertThat(recording.fingerprints())
+                    .containsExactly(
+                            Map.entry("CREATE TABLE IF NOT EXISTS guests (id INT PRIMARY KEY, name VARCHAR(?))", 1),
+                            Map.entry("DELETE FROM guests", 1),
+                            Map.entry("INSERT INTO guests VALUES (?...)", 2));
+        }
+    }
+
+    @Test
+    @DisplayName("should add the statements of a nested recording to the enclosing one, and none outside")
+    void shouldNestRecordings() throws SQLException {
+        try (Connection connection = subject.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+
+            try (Recording outer = SqlStatementRecorder.start()) {
+                try (Recording inner = SqlStatementRecorder.start()) {
+                    statement.execute("SELECT 2");
+                    Assertions.assertThat(inner.statements()).isEqualTo(1);
+                }
+                statement.execute("SELECT 3");
+                Assertions.assertThat(outer.statements()).isEqualTo(2);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should hand out the target connection and data source when unwrapped")
+    void shouldUnwrap() throws SQLException {
+        Assertions.assertThat(subject.unwrap(DriverManagerDataSource.class)).isSameAs(target);
+        try (Connection connection = subject.getConnection();
+                Statement statement = connection.createStatement()) {
+            Assertions.assertThat(statement.getConnection()).isSameAs(connection);
+        }
+    }
+}
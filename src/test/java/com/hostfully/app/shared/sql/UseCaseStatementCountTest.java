@@ -0,0 +1,111 @@
+package com.hostfully.app.shared.sql;
+
+import com.hostfully.app.booking.domain.Booking;
+import com.hostfully.app.booking.usecase.CancelBooking;
+import com.hostfully.app.booking.usecase.CreateBooking;
+import com.hostfully.app.booking.usecase.CreateBooking.CreateBookingCommand;
+import com.hostfully.app.booking.usecase.UpdateBooking;
+import com.hostfully.app.booking.usecase.UpdateBooking.UpdateBookingCommand;
+import com.hostfully.app.infra.entity.PropertyEntity;
+import com.hostfully.app.infra.repository.BookingRepository;
+import com.hostfully.app.infra.repository.PropertyRepository;
+import com.hostfully.app.shared.sql.SqlStatementRecorder.Recording;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Pins the statements the booking write use cases run against H2. The controller tests mock the use cases, so no SQL
+// reaches SqlBudgetFilter there: a change adding a statement to a use case fails here instead
+@SpringBootTest
+public class UseCaseStatementCountTest {
+
+    private static final String PROPERTY_ID = "PROP-SQL-1";
+
+    @Autowired
+    private CreateBooking createBooking;
+
+    @Autowired
+    private UpdateBooking updateBooking;
+
+    @Autowired
+    private CancelBooking cancelBooking;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private final LocalDate startDate = LocalDate.now().plusDays(30);
+    private final List<String> bookingIds = new ArrayList<>();
+    private PropertyEntity property;
+
+    @BeforeEach
+    void setUp() {
+        property = propertyRepository.save(new PropertyEntity(PROPERTY_ID, "Beach House", "Beach"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingIds.forEach(bookingRepository::deleteByExternalId);
+        propertyRepository.delete(property);
+    }
+
+    @Test
+    @DisplayName("should create a booking in 7 statements")
+    void shouldPinCreateBooking() {
+        // idempotency key, booking and block overlaps, property, booking, outbox event, idempotency response
+        assertStatements(record(this::createBooking), 7);
+    }
+
+    @Test
+    @DisplayName("should update a booking in 6 statements")
+    void shouldPinUpdateBooking() {
+        final Booking booking = createBooking();
+
+        // booking, booking and block overlaps, conditional update, updated booking, outbox event
+        assertStatements(
+                record(() -> updateBooking.execute(new UpdateBookingCommand(
+                        booking.getId(), startDate, startDate.plusDays(4), "Jane Doe", 3, null))),
+                6);
+    }
+
+    @Test
+    @DisplayName("should cancel a booking in 6 statements")
+    void shouldPinCancelBooking() {
+        final Booking booking = createBooking();
+
+        // idempotency key, booking, conditional update, cancelled booking, outbox event, idempotency response
+        assertStatements(record(() -> cancelBooking.execute(booking.getId(), UUID.randomUUID())), 6);
+    }
+
+    private Booking createBooking() {
+        final Booking booking = createBooking.execute(new CreateBookingCommand(
+                PROPERTY_ID, startDate, startDate.plusDays(3), "John Doe", 2, UUID.randomUUID()));
+        bookingIds.add(booking.getId());
+        return booking;
+    }
+
+    private static Recording record(final Supplier<?> useCase) {
+        try (Recording recording = SqlStatementRecorder.start()) {
+            useCase.get();
+            return recording;
+        }
+    }
+
+    // The fingerprints are in the failure message, to tell which statement came or went
+    private static void assertStatements(final Recording recording, final int expected) {
+        Assertions.assertThat(recording.statements())
+                .as("statements %s", recording.fingerprints())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,40 @@
+package com.hostfully.app.shared.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LogThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LogThrottle subject = new LogThrottle(2, Duration.ofSeconds(1), clock::get);
+
+    @Test
+    @DisplayName("should permit up to the configured events per window and count the suppressed ones")
+    void shouldSuppressEventsAboveLimit() {
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(subject.tryAcquire("key")).isTrue();
+            softAssertions.assertThat(subject.tryAcquire("key")).isTrue();
+            softAssertions.assertThat(subject.tryAcquire("key")).isFalse();
+            softAssertions.assertThat(subject.tryAcquire("key")).isFalse();
+            softAssertions.assertThat(subject.drainSuppressed("key")).isEqualTo(2);
+            softAssertions.assertThat(subject.drainSuppressed("key")).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("should permit events again, when the window elapses")
+    void shouldResetAfterWindow() {
+        subject.tryAcquire("key");
+        subject.tryAcquire("key");
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        SoftAssertions.assertSoftly(softAssertions -> {
+            softAssertions.assertThat(subject.tryAcquire("key")).isTrue();
+            softAssertions.assertThat(subject.tryAcquire("another-key")).isTrue();
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.hostfully.app.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class NanoIdGeneratorTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 16})
+    @DisplayName("should generate unique url-safe ids of the configured size, with and without pool")
+    void shouldGenerateUniqueIds(final int poolSize) throws Exception {
+        final NanoIdGenerator subject = new NanoIdGenerator(12, poolSize, "random");
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            final var futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> {
+                        for (int j = 0; j < 1_000; j++) ids.add(subject.generateId());
+                    }))
+                    .toList();
+            for (Future<?> future : futures) future.get();
+        } finally {
+            subject.close();
+        }
+
+        assertThat(ids).hasSize(8_000).allMatch(id -> id.matches("[A-Za-z0-9_-]{12}"));
+    }
+
+    @Test
+    @DisplayName("should generate ids sorted by creation time, when strategy is time-ordered")
+    void shouldGenerateTimeOrderedIds() {
+        final SecureRandom random = new SecureRandom();
+        final long now = System.currentTimeMillis();
+        final List<String> ids = new ArrayList<>();
+
+        for (long millis = now; millis < now + 5_000; millis += 7)
+            ids.add(NanoIdGenerator.timeOrderedId(random, 12, millis));
+
+        assertThat(ids).isSorted().allMatch(id -> id.matches("[A-Za-z0-9_-]{12}"));
+        assertThat(NanoIdGenerator.timeOrderedId(random, 12, now).substring(0, NanoIdGenerator.TIME_PREFIX_SIZE))
+                .isEqualTo(NanoIdGenerator.timeOrderedId(random, 12, now)
+                        .substring(0, NanoIdGenerator.TIME_PREFIX_SIZE));
+    }
+
+    @Test
+    @DisplayName("should generate time-ordered ids through the configured strategy")
+    void shouldUseConfiguredStrategy() {
+        final NanoIdGenerator subject = new NanoIdGenerator(12, 16, "time-ordered");
+
+        final String first = subject.generateId();
+        final String second = subject.generateId();
+
+        assertThat(first).hasSize(12);
+        assertThat(first.substring(0, NanoIdGenerator.TIME_PREFIX_SIZE))
+                .isLessThanOrEqualTo(second.substring(0, NanoIdGenerator.TIME_PREFIX_SIZE));
+    }
+
+    @Test
+    @DisplayName("should reject unknown strategy, or a key too short for a time prefix")
+    void shouldRejectInvalidConfiguration() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NanoIdGenerator(12, 0, "sequential"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NanoIdGenerator(8, 0, "time-ordered"));
+    }
+
+    @Test
+    @DisplayName("should draw ids from DRBG, not from the JVM-wide locked NativePRNG")
+    void shouldUseDrbg() {
+        assertThat(NanoIdGenerator.newRandom().getAlgorithm()).isEqualTo("DRBG");
+    }
+}
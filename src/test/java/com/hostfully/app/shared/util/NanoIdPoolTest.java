@@ -0,0 +1,38 @@
+package com.hostfully.app.shared.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class NanoIdPoolTest {
+
+    @Test
+    @DisplayName("should hand out pre-generated ids in order, each one once")
+    void shouldHandOutPreGeneratedIds() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+
+        try (NanoIdPool subject = new NanoIdPool(8, () -> String.valueOf(counter.getAndIncrement()))) {
+            final List<String> taken = new ArrayList<>();
+            while (taken.size() < 100) {
+                final String id = subject.poll();
+                if (id == null) Thread.onSpinWait();
+                else taken.add(id);
+            }
+
+            assertThat(taken).doesNotHaveDuplicates();
+            assertThat(taken.get(0)).isEqualTo("0");
+            assertThat(taken).isSortedAccordingTo((a, b) -> Integer.compare(Integer.parseInt(a), Integer.parseInt(b)));
+        }
+    }
+
+    @Test
+    @DisplayName("should reject, when capacity is lower than two")
+    void shouldRejectInvalidCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new NanoIdPool(1, () -> "id"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.hostfully.app.shared.util;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.Set;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class VersionETagTest {
+
+    @Test
+    @DisplayName("should render the version as a strong entity tag")
+    void shouldRenderStrongTag() {
+        Assertions.assertThat(VersionETag.of(3L)).isEqualTo("\"3\"");
+        Assertions.assertThat(VersionETag.of(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("ifMatchHeaders")
+    @DisplayName("should parse the versions requested by an If-Match header")
+    void shouldParseIfMatch(String header, Set<Long> expected) {
+        Assertions.assertThat(VersionETag.parseIfMatch(header)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> ifMatchHeaders() {
+        return Stream.of(
+                arguments(null, null),
+                arguments(" ", null),
+                arguments("*", null),
+                arguments("\"3\", *", null),
+                arguments("\"3\"", Set.of(3L)),
+                arguments("\"3\", \"4\"", Set.of(3L, 4L)),
+                arguments("W/\"3\", \"4\",\"abc\"", Set.of(4L)),
+                arguments("W/\"3\"", Set.of()),
+                arguments("3", Set.of()),
+                arguments("\"abc\"", Set.of()),
+                arguments("\"\"", Set.of()));
+    }
+}